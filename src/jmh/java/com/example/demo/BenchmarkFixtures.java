@@ -0,0 +1,91 @@
+package com.example.demo;
+
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.user.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 데이터 (운영 데이터와 비슷한 분포의 교사/상품)
+ */
+public final class BenchmarkFixtures {
+
+    /** 실제 부서 코드와 교사 유형 조합 (LoginUserAuthority, User.getCntrTyCd 분기를 모두 지나도록) */
+    private static final String[][] TEACHER_PROFILES = {
+        {"1500", "T"}, {"1503", "T"}, {"1504", "T"}, {"1501", "M"}, {"1502", "M"}, {"1505", "M"},
+        {"1600", "C"}, {"1601", "T"}, {"1602", "M"}, {"1506", "M"}, {"9999", "T"}
+    };
+    private static final String[] GRADES = {"초1", "초2", "초3", "초4", "초5", "초6", "중1", "중2", "중3"};
+    private static final String[] MANAGEMENT_TYPES = {"관리", "비관리"};
+    private static final String[] PAD_TYPES = {"기본패드", "프리미엄패드", "학습패드", "영어패드"};
+    private static final String[] ALLOWED_TYPES = {"CHRG", "CNSTN", "PRLSN", "CHRG,PRLSN", "T,M", "M", "SPRT,UNTY"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User teacher(int index) {
+        String[] profile = TEACHER_PROFILES[index % TEACHER_PROFILES.length];
+        return teacher(String.format("T%05d", index), profile[0], User.TeacType.valueOf(profile[1]));
+    }
+
+    public static User teacher(String empNo, String deptCode, User.TeacType teacType) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "empNo", empNo);
+        ReflectionTestUtils.setField(user, "empName", "교사" + empNo);
+        ReflectionTestUtils.setField(user, "deptCode", deptCode);
+        ReflectionTestUtils.setField(user, "birthDate", "19800101");
+        ReflectionTestUtils.setField(user, "teacType", teacType);
+        ReflectionTestUtils.setField(user, "scType", User.ScType.E);
+        return user;
+    }
+
+    public static List<User> teachers(int count) {
+        List<User> teachers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            teachers.add(teacher(i));
+        }
+        return teachers;
+    }
+
+    /**
+     * 상품 목록 (약 30%가 접근 제한 상품, ID는 1부터)
+     */
+    public static List<Product> catalog(int size, long seed) {
+        Random random = new Random(seed);
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setGrade(GRADES[random.nextInt(GRADES.length)]);
+            product.setManagementType(MANAGEMENT_TYPES[random.nextInt(MANAGEMENT_TYPES.length)]);
+            product.setPadType(PAD_TYPES[random.nextInt(PAD_TYPES.length)]);
+            product.setModelName("모델" + (i + 1));
+            product.setMonthlyFee(BigDecimal.valueOf(20_000 + random.nextInt(40) * 1_000L));
+            product.setActive(true);
+            boolean restricted = random.nextInt(10) < 3;
+            product.setRestrictedAccess(restricted);
+            product.setAllowedTeacherTypes(restricted ? ALLOWED_TYPES[random.nextInt(ALLOWED_TYPES.length)] : null);
+            products.add(product);
+        }
+        return products;
+    }
+
+    /**
+     * findByActiveTrue만 응답하는 상품 저장소 (ProductCatalog 적재용)
+     */
+    public static ProductRepository productRepository(List<Product> products) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[] {ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByActiveTrue")) {
+                        return products;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
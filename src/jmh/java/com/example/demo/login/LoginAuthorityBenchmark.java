@@ -0,0 +1,56 @@
+package com.example.demo.login;
+
+import com.example.demo.BenchmarkFixtures;
+import com.example.demo.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/권한 판정 (LoginUserAuthority.getAuthority, User.getCntrTyCd)
+ * 모든 부서 코드 분기와 매칭되지 않는 코드를 돌아가며 넣는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoginAuthorityBenchmark {
+
+    private List<User> teachers;
+    private LoginUserAuthority[] authorities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        teachers = BenchmarkFixtures.teachers(64);
+        authorities = LoginUserAuthority.values();
+    }
+
+    @Benchmark
+    public LoginUserAuthority resolveAuthority() {
+        User teacher = teachers.get(cursor++ & 63);
+        return LoginUserAuthority.getAuthority(teacher.getTeacType(), teacher.getDeptCode());
+    }
+
+    @Benchmark
+    public String authorityName() {
+        return authorities[Integer.remainderUnsigned(cursor++, authorities.length)].getAuthority();
+    }
+
+    @Benchmark
+    public User.CntrTyCd cntrTyCd() {
+        return teachers.get(cursor++ & 63).getCntrTyCd();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.login.service;
+
+import com.example.demo.login.JwtPrincipal;
+import com.example.demo.login.LoginUserAuthority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider 토큰 발급과 검증
+ * verifyCached는 요청마다 같은 토큰이 오는 일반적인 경우, verifySignature는 캐시 없이 서명을 검증하는 경우다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm";
+    private static final int TOKEN_COUNT = 256;
+
+    private JwtProvider cachingProvider;
+    private JwtProvider uncachedProvider;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = provider(10_000);
+        uncachedProvider = provider(0);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = cachingProvider.generateToken(String.format("T%05d", i), LoginUserAuthority.values()[i % 6]);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateToken("T00001", LoginUserAuthority.B03);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return cachingProvider.verify(tokens[cursor++ & (TOKEN_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifySignature() {
+        return uncachedProvider.verify(tokens[cursor++ & (TOKEN_COUNT - 1)]);
+    }
+
+    private static JwtProvider provider(long cacheMaxSize) {
+        JwtProvider provider = new JwtProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", TimeUnit.HOURS.toMillis(12));
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", cacheMaxSize);
+        provider.init();
+        return provider;
+    }
+}
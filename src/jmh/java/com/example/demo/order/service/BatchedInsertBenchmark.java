@@ -0,0 +1,143 @@
+package com.example.demo.order.service;
+
+import com.example.demo.BenchmarkFixtures;
+import com.example.demo.DemoApplication;
+import com.example.demo.customer.service.CustomerSearchIndex;
+import com.example.demo.customer.service.CustomerTypeahead;
+import com.example.demo.order.OrderSession;
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.user.User;
+import com.example.demo.user.repository.UserRepository;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 일괄 등록 청크 저장 (OrderImportWriter.write, 신규 고객 500명 + 주문 500건을 트랜잭션 하나로)
+ * batchSize는 hibernate.jdbc.batch_size로, 1이면 JDBC 배치 없이 문장마다 실행한다 (시퀀스 id라 50이면 50건씩 묶임).
+ * transport=tcp는 같은 JVM에 H2 TCP 서버를 띄워 문장마다 루프백 왕복이 생기게 한다. 배치 효과는 왕복 비용만큼 커지므로
+ * 내장 메모리 DB(mem)에서는 차이가 거의 없고 tcp에서 드러난다.
+ * 반복(iteration)마다 주문/고객/집계 테이블을 비우고 고객 인덱스를 다시 만들어 테이블 크기가 결과에 섞이지 않게 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchedInsertBenchmark {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"mem", "tcp"})
+    private String transport;
+
+    private Server tcpServer;
+    private ConfigurableApplicationContext context;
+    private OrderImportWriter writer;
+    private JdbcTemplate jdbcTemplate;
+    private User teacher;
+    private Product product;
+    private int nextCustomer;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws SQLException {
+        String url = "jdbc:h2:mem:batched;DB_CLOSE_DELAY=-1";
+        if (transport.equals("tcp")) {
+            tcpServer = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://localhost:" + tcpServer.getPort() + "/mem:batched;DB_CLOSE_DELAY=-1";
+        }
+        context = new SpringApplicationBuilder(DemoApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=-1",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.h2.console.enabled=false",
+                "--jwt.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm",
+                "--jwt.expiration=3600000");
+        writer = context.getBean(OrderImportWriter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        teacher = context.getBean(UserRepository.class).save(BenchmarkFixtures.teacher("B0001", "1501", User.TeacType.M));
+        Product model = new Product();
+        model.setGrade("초1");
+        model.setManagementType("관리");
+        model.setPadType("기본패드");
+        model.setModelName("벤치마크 모델");
+        model.setMonthlyFee(BigDecimal.valueOf(30_000));
+        product = context.getBean(ProductRepository.class).save(model);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        if (tcpServer != null) {
+            tcpServer.stop();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from customer");
+        jdbcTemplate.update("delete from order_stats");
+        context.getBean(CustomerTypeahead.class).rebuild();
+        context.getBean(CustomerSearchIndex.class).rebuild();
+    }
+
+    /**
+     * 처음 보는 고객 500명의 주문 행 (측정 대상 밖에서 준비)
+     */
+    @State(Scope.Thread)
+    public static class Chunk {
+
+        private List<OrderImportWriter.Row> rows;
+
+        @Setup(Level.Invocation)
+        public void prepare(BatchedInsertBenchmark benchmark) {
+            rows = benchmark.newChunk();
+        }
+    }
+
+    @Benchmark
+    public void writeChunk(Chunk chunk) {
+        writer.write(chunk.rows, teacher);
+    }
+
+    private List<OrderImportWriter.Row> newChunk() {
+        List<OrderImportWriter.Row> rows = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            int customer = nextCustomer++;
+            OrderSession.CustomerInfo info = new OrderSession.CustomerInfo(
+                    "학부모" + customer, String.format("010-%08d", customer), null, null,
+                    "학생" + customer, "초1", null);
+            rows.add(new OrderImportWriter.Row(i + 2, info, product, 1));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.order.service;
+
+import com.example.demo.BenchmarkFixtures;
+import com.example.demo.DemoApplication;
+import com.example.demo.order.Order;
+import com.example.demo.order.OrderSession;
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.user.User;
+import com.example.demo.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService.createOrder (내장 H2에 실제 애플리케이션 컨텍스트를 띄워 측정)
+ * createOrder는 세션 준비를 측정 밖(Invocation 설정)에서 하고, placeOrder는 세션 시작부터 주문 생성까지 4단계 전체를 잰다.
+ * 고객은 1,000명을 돌려 쓰므로 워밍업 이후에는 대부분 기존 고객 조회 경로를 탄다.
+ * Hibernate/H2 경로는 JIT가 안정되기까지 오래 걸려 워밍업을 길게 잡는다 (짧으면 수십 ms로 부풀려진다).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateOrderBenchmark {
+
+    private static final int CUSTOMER_POOL = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private User teacher;
+    private Product product;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(DemoApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=-1",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--jwt.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm",
+                "--jwt.expiration=3600000");
+        orderService = context.getBean(OrderService.class);
+
+        teacher = context.getBean(UserRepository.class).save(BenchmarkFixtures.teacher("B0001", "1501", User.TeacType.M));
+        Product model = new Product();
+        model.setGrade("초1");
+        model.setManagementType("관리");
+        model.setPadType("기본패드");
+        model.setModelName("벤치마크 모델");
+        model.setMonthlyFee(BigDecimal.valueOf(30_000));
+        product = context.getBean(ProductRepository.class).save(model);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * 고객 정보와 모델 선택까지 마친 세션 (측정 대상 밖에서 준비)
+     */
+    @State(Scope.Thread)
+    public static class PreparedSession {
+
+        private int sequence;
+        private String sessionId;
+
+        @Setup(Level.Invocation)
+        public void prepare(CreateOrderBenchmark benchmark) {
+            sessionId = benchmark.fillSession(sequence++);
+        }
+    }
+
+    /**
+     * 세션마다 다른 고객을 쓰기 위한 일련번호
+     */
+    @State(Scope.Thread)
+    public static class CustomerSequence {
+
+        private int next;
+    }
+
+    @Benchmark
+    public Order createOrder(PreparedSession session) {
+        return orderService.createOrder(session.sessionId, teacher.getEmpNo(), teacher);
+    }
+
+    @Benchmark
+    public Order placeOrder(CustomerSequence sequence) {
+        String sessionId = fillSession(sequence.next++);
+        return orderService.createOrder(sessionId, teacher.getEmpNo(), teacher);
+    }
+
+    private String fillSession(int sequence) {
+        int customer = sequence % CUSTOMER_POOL;
+        String sessionId = orderService.startOrderSession(teacher.getEmpNo());
+        orderService.saveCustomerInfo(sessionId, teacher.getEmpNo(), new OrderSession.CustomerInfo(
+                "학부모" + customer, String.format("010-1000-%04d", customer), null, null,
+                "학생" + customer, "초1", null));
+        orderService.saveModelSelection(sessionId, teacher.getEmpNo(),
+                product.getGrade(), product.getManagementType(), product.getPadType(), product.getId(), 1);
+        return sessionId;
+    }
+}
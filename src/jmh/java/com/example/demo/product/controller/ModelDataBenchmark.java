@@ -0,0 +1,50 @@
+package com.example.demo.product.controller;
+
+import com.example.demo.BenchmarkFixtures;
+import com.example.demo.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 API 응답 변환 (ProductApiController.convertToModelData, formatPrice)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelDataBenchmark {
+
+    private ProductApiController controller;
+    private List<Product> products;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        controller = new ProductApiController(null, null);
+        products = BenchmarkFixtures.catalog(256, 42);
+    }
+
+    @Benchmark
+    public Map<String, Object> convertToModelData() {
+        return controller.convertToModelData(products.get(cursor++ & 255));
+    }
+
+    @Benchmark
+    public String formatPrice() {
+        return controller.formatPrice(products.get(cursor++ & 255).getMonthlyFee());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.product.service;
+
+import com.example.demo.BenchmarkFixtures;
+import com.example.demo.product.Product;
+import com.example.demo.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.isProductAccessible (교사 x 상품 권한 확인)
+ * 단건 확인과, 모델 목록 API처럼 카탈로그 전체를 한 교사 기준으로 거르는 경우를 함께 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductAccessBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int catalogSize;
+
+    private ProductService productService;
+    private List<Product> products;
+    private List<User> teachers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        products = BenchmarkFixtures.catalog(catalogSize, 42);
+        teachers = BenchmarkFixtures.teachers(64);
+        ProductCatalog catalog = new ProductCatalog(BenchmarkFixtures.productRepository(products));
+        catalog.refresh();
+        productService = new ProductService(BenchmarkFixtures.productRepository(products), catalog);
+    }
+
+    @Benchmark
+    public boolean isProductAccessible() {
+        int i = cursor++;
+        return productService.isProductAccessible(teachers.get(i & 63), products.get(i % products.size()));
+    }
+
+    @Benchmark
+    public void filterCatalog(Blackhole blackhole) {
+        User teacher = teachers.get(cursor++ & 63);
+        for (Product product : products) {
+            blackhole.consume(productService.isProductAccessible(teacher, product));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 파일 저장, 콘솔 표 출력, 이전 결과와 비교)
+ */
+final class LoadTestReport {
+
+    /** p99 비교 시 이 값(ms)보다 작은 차이는 잡음으로 보고 무시 */
+    private static final double P99_NOISE_FLOOR_MS = 1.0;
+    /** 오류율은 이 값 이상 늘어야 회귀로 본다 */
+    private static final double ERROR_RATE_MARGIN = 0.01;
+
+    private final Map<String, Object> settings;
+    private final List<StepRecorder.Summary> steps;
+    private final long completedOrders;
+    private final long abortedOrders;
+    private final Map<String, Integer> abortReasons;
+    private final double measuredSeconds;
+
+    LoadTestReport(Map<String, Object> settings, List<StepRecorder.Summary> steps, long completedOrders,
+                   long abortedOrders, Map<String, Integer> abortReasons, double measuredSeconds) {
+        this.settings = settings;
+        this.steps = steps;
+        this.completedOrders = completedOrders;
+        this.abortedOrders = abortedOrders;
+        this.abortReasons = abortReasons;
+        this.measuredSeconds = measuredSeconds;
+    }
+
+    double ordersPerSecond() {
+        return measuredSeconds <= 0 ? 0 : completedOrders / measuredSeconds;
+    }
+
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", OffsetDateTime.now().toString());
+        json.put("settings", settings);
+
+        Map<String, Object> orders = new LinkedHashMap<>();
+        orders.put("completed", completedOrders);
+        orders.put("aborted", abortedOrders);
+        orders.put("throughputPerSecond", round(ordersPerSecond()));
+        orders.put("abortReasons", abortReasons);
+        json.put("orders", orders);
+
+        List<Map<String, Object>> stepJson = new ArrayList<>();
+        for (StepRecorder.Summary step : steps) {
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("mean", round(step.meanMs()));
+            latency.put("p50", round(step.p50Ms()));
+            latency.put("p99", round(step.p99Ms()));
+            latency.put("p999", round(step.p999Ms()));
+            latency.put("max", round(step.maxMs()));
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", step.name());
+            entry.put("requests", step.requests());
+            entry.put("errors", step.errors());
+            entry.put("errorRate", round(step.errorRate()));
+            entry.put("throughputPerSecond", round(step.throughputPerSecond()));
+            entry.put("latencyMs", latency);
+            entry.put("errorsByType", step.errorsByType());
+            stepJson.add(entry);
+        }
+        json.put("steps", stepJson);
+        return json;
+    }
+
+    void write(Path file, ObjectMapper objectMapper) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), toJson());
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nOrders: %d completed, %d aborted, %.2f orders/s over %.0fs%n",
+                completedOrders, abortedOrders, ordersPerSecond(), measuredSeconds);
+        abortReasons.forEach((reason, count) -> out.printf("  aborted - %s: %d%n", reason, count));
+        out.printf("%n%-20s %9s %7s %7s %8s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "errors", "err%", "req/s", "mean ms", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (StepRecorder.Summary step : steps) {
+            out.printf("%-20s %9d %7d %7.2f %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    step.name(), step.requests(), step.errors(), step.errorRate() * 100, step.throughputPerSecond(),
+                    step.meanMs(), step.p50Ms(), step.p99Ms(), step.p999Ms(), step.maxMs());
+            step.errorsByType().forEach((type, count) -> out.printf("  %-18s %s: %d%n", "", type, count));
+        }
+    }
+
+    /**
+     * 이전 결과 파일과 비교해 회귀 항목 목록 반환
+     * 단계별 p99가 tolerance 비율을 넘게 늘었거나 오류율이 1%p 이상 늘었으면 회귀,
+     * 사용자 수와 생각 시간이 같을 때만 주문 처리량 감소도 회귀로 본다.
+     */
+    List<String> compareWith(JsonNode baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        Map<String, JsonNode> baselineSteps = new LinkedHashMap<>();
+        for (JsonNode step : baseline.path("steps")) {
+            baselineSteps.put(step.path("name").asText(), step);
+        }
+
+        for (StepRecorder.Summary step : steps) {
+            JsonNode base = baselineSteps.get(step.name());
+            if (base == null || base.path("requests").asInt() == 0) {
+                continue;
+            }
+            double baseP99 = base.path("latencyMs").path("p99").asDouble();
+            if (step.p99Ms() > baseP99 * (1 + tolerance) && step.p99Ms() - baseP99 > P99_NOISE_FLOOR_MS) {
+                regressions.add(String.format("%s p99 %.2fms -> %.2fms", step.name(), baseP99, step.p99Ms()));
+            }
+            double baseErrorRate = base.path("errorRate").asDouble();
+            if (step.errorRate() > baseErrorRate + ERROR_RATE_MARGIN) {
+                regressions.add(String.format("%s error rate %.2f%% -> %.2f%%",
+                        step.name(), baseErrorRate * 100, step.errorRate() * 100));
+            }
+        }
+
+        JsonNode baseSettings = baseline.path("settings");
+        boolean sameLoad = baseSettings.path("users").asText().equals(String.valueOf(settings.get("users")))
+                && baseSettings.path("thinkTime").asText().equals(String.valueOf(settings.get("thinkTime")));
+        double baseThroughput = baseline.path("orders").path("throughputPerSecond").asDouble();
+        if (sameLoad && ordersPerSecond() < baseThroughput * (1 - tolerance)) {
+            regressions.add(String.format("orders/s %.2f -> %.2f", baseThroughput, ordersPerSecond()));
+        }
+        return regressions;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 마법사 종단 부하 테스트
+ * 가상 사용자마다 교사 한 명으로 로그인해 step1 → step2(step2.html의 API 호출 포함) → step3 확인 → 주문 확정을 생각 시간을 두고 반복하고,
+ * 워밍업 이후 구간의 단계별 처리량, p50/p99/p99.9 응답 시간, 오류율을 콘솔과 JSON 파일로 남긴다.
+ *
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--users=20 --duration=2m --baseline=prev.json"
+ *
+ * --base-url이 없으면 애플리케이션을 같은 JVM에 띄우고 합성 데이터(dataset.*)를 적재한 뒤 부하를 건다.
+ * 드라이버 옵션이 아닌 --name=value는 그대로 애플리케이션 설정으로 넘어간다. (예: --dataset.orders=1000000)
+ * --baseline을 주면 이전 결과와 비교해 회귀가 있으면 종료 코드 2로 끝난다.
+ */
+public final class OrderWizardLoadDriver {
+
+    private static final Map<String, String> DRIVER_DEFAULTS = new LinkedHashMap<>();
+    private static final Map<String, String> EMBEDDED_DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DRIVER_DEFAULTS.put("base-url", "");
+        DRIVER_DEFAULTS.put("users", "10");
+        DRIVER_DEFAULTS.put("duration", "60s");
+        DRIVER_DEFAULTS.put("warmup", "15s");
+        DRIVER_DEFAULTS.put("think-time", "500ms");
+        // 합성 데이터 교사 S000001..S{teachers}를 사용자마다 돌아가며 배정
+        DRIVER_DEFAULTS.put("teachers", "50");
+        DRIVER_DEFAULTS.put("password", "demo1234");
+        DRIVER_DEFAULTS.put("seed", "42");
+        DRIVER_DEFAULTS.put("out", "target/loadtest/order-wizard.json");
+        DRIVER_DEFAULTS.put("baseline", "");
+        DRIVER_DEFAULTS.put("tolerance", "0.2");
+
+        EMBEDDED_DEFAULTS.put("server.port", "0");
+        EMBEDDED_DEFAULTS.put("management.server.port", "-1");
+        EMBEDDED_DEFAULTS.put("spring.jpa.show-sql", "false");
+        EMBEDDED_DEFAULTS.put("spring.h2.console.enabled", "false");
+        EMBEDDED_DEFAULTS.put("logging.level.root", "WARN");
+        EMBEDDED_DEFAULTS.put("jwt.secret", "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm");
+        EMBEDDED_DEFAULTS.put("jwt.expiration", "3600000");
+        EMBEDDED_DEFAULTS.put("dataset.generate.enabled", "true");
+        EMBEDDED_DEFAULTS.put("dataset.teachers", "200");
+        EMBEDDED_DEFAULTS.put("dataset.customers", "20000");
+        EMBEDDED_DEFAULTS.put("dataset.orders", "100000");
+    }
+
+    private OrderWizardLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>(DRIVER_DEFAULTS);
+        Map<String, String> applicationOptions = new LinkedHashMap<>(EMBEDDED_DEFAULTS);
+        Map<String, String> unknownOptions = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --name=value 형식이어야 합니다: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (options.containsKey(name)) {
+                options.put(name, value);
+            } else {
+                applicationOptions.put(name, value);
+                unknownOptions.put(name, value);
+            }
+        }
+
+        ConfigurableApplicationContext context = null;
+        URI baseUri;
+        if (options.get("base-url").isBlank()) {
+            context = new SpringApplicationBuilder(DemoApplication.class).run(toArgs(applicationOptions));
+            baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/");
+        } else {
+            if (!unknownOptions.isEmpty()) {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: " + unknownOptions.keySet());
+            }
+            baseUri = URI.create(options.get("base-url").endsWith("/") ? options.get("base-url") : options.get("base-url") + "/");
+        }
+
+        int exitCode;
+        try {
+            exitCode = run(baseUri, options);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(URI baseUri, Map<String, String> options) throws Exception {
+        int users = Integer.parseInt(options.get("users"));
+        int teachers = Integer.parseInt(options.get("teachers"));
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+        Duration warmup = DurationStyle.detectAndParse(options.get("warmup"));
+        Duration thinkTime = DurationStyle.detectAndParse(options.get("think-time"));
+        long seed = Long.parseLong(options.get("seed"));
+        double tolerance = Double.parseDouble(options.get("tolerance"));
+        if (users <= 0 || teachers <= 0 || duration.isZero() || duration.isNegative() || warmup.isNegative() || thinkTime.isNegative()) {
+            throw new IllegalArgumentException("users/teachers/duration은 0보다 커야 하고 warmup/think-time은 음수일 수 없습니다.");
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        System.out.printf("Load test against %s: %d users, think time %s, warmup %s, duration %s%n",
+                baseUri, users, thinkTime, warmup, duration);
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(i, baseUri, String.format("S%06d", i % teachers + 1), options.get("password"),
+                    thinkTime, measureFrom, deadline, objectMapper, seed * 1_000_003L + i);
+            virtualUsers.add(user);
+            executor.submit(user);
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(warmup.plus(duration).plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+
+        Map<WizardStep, StepRecorder> merged = new EnumMap<>(WizardStep.class);
+        Map<String, Integer> abortReasons = new TreeMap<>();
+        long completedOrders = 0;
+        long abortedOrders = 0;
+        for (WizardStep step : WizardStep.values()) {
+            merged.put(step, new StepRecorder(step.label()));
+        }
+        for (VirtualUser user : virtualUsers) {
+            user.recorders().forEach((step, recorder) -> merged.get(step).mergeFrom(recorder));
+            user.abortReasons().forEach((reason, count) -> abortReasons.merge(reason, count, Integer::sum));
+            completedOrders += user.completedOrders();
+            abortedOrders += user.abortedOrders();
+        }
+
+        double measuredSeconds = duration.toMillis() / 1000.0;
+        List<StepRecorder.Summary> summaries = new ArrayList<>();
+        for (StepRecorder recorder : merged.values()) {
+            summaries.add(recorder.summarize(measuredSeconds));
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", baseUri.toString());
+        settings.put("users", users);
+        settings.put("thinkTime", thinkTime.toString());
+        settings.put("warmup", warmup.toString());
+        settings.put("duration", duration.toString());
+        settings.put("teachers", teachers);
+        settings.put("seed", seed);
+
+        LoadTestReport report = new LoadTestReport(settings, summaries, completedOrders, abortedOrders, abortReasons, measuredSeconds);
+        report.print(System.out);
+        Path out = Path.of(options.get("out"));
+        report.write(out, objectMapper);
+        System.out.println("\nResults written to " + out.toAbsolutePath());
+
+        if (options.get("baseline").isBlank()) {
+            return 0;
+        }
+        List<String> regressions = report.compareWith(objectMapper.readTree(Path.of(options.get("baseline")).toFile()), tolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + options.get("baseline"));
+            return 0;
+        }
+        System.out.println("Regressions against " + options.get("baseline") + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 2;
+    }
+
+    private static String[] toArgs(Map<String, String> options) {
+        return options.entrySet().stream()
+                .map(option -> "--" + option.getKey() + "=" + option.getValue())
+                .toArray(String[]::new);
+    }
+}
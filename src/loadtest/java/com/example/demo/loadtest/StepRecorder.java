@@ -0,0 +1,81 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 단계별 응답 시간과 오류 기록 (가상 사용자마다 하나씩 두고 종료 후 합친다)
+ * 응답 시간은 마이크로초 원값을 모두 보관하므로 백분위수는 근사 없이 정확하다.
+ */
+final class StepRecorder {
+
+    private final String name;
+    private long[] latenciesMicros = new long[256];
+    private int count;
+    private final Map<String, Integer> errors = new TreeMap<>();
+
+    StepRecorder(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void recordSuccess(long latencyMicros) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+    }
+
+    void recordError(String type) {
+        errors.merge(type, 1, Integer::sum);
+    }
+
+    void mergeFrom(StepRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            recordSuccess(other.latenciesMicros[i]);
+        }
+        other.errors.forEach((type, n) -> errors.merge(type, n, Integer::sum));
+    }
+
+    /**
+     * 측정 구간 길이(초)로 처리량을 계산한 단계 요약
+     */
+    Summary summarize(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        int errorCount = errors.values().stream().mapToInt(Integer::intValue).sum();
+        int total = count + errorCount;
+
+        long sum = 0;
+        for (long latency : sorted) {
+            sum += latency;
+        }
+        return new Summary(name, total, errorCount,
+                total == 0 ? 0 : (double) errorCount / total,
+                measuredSeconds <= 0 ? 0 : count / measuredSeconds,
+                count == 0 ? 0 : sum / (double) count / 1000,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1000.0,
+                new TreeMap<>(errors));
+    }
+
+    /**
+     * nearest-rank 백분위수 (밀리초)
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1000.0;
+    }
+
+    record Summary(String name, int requests, int errors, double errorRate, double throughputPerSecond,
+                   double meanMs, double p50Ms, double p99Ms, double p999Ms, double maxMs,
+                   Map<String, Integer> errorsByType) {
+    }
+}
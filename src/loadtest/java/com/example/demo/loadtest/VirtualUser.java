@@ -0,0 +1,355 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 사용자 한 명 (교사 한 명으로 로그인해 종료 시각까지 주문 마법사를 반복)
+ * 브라우저처럼 쿠키(JSESSIONID)를 유지하고 리다이렉트는 따라가지 않고 Location으로 성공 여부를 판단한다.
+ * 한 단계라도 실패하면 그 주문은 중단하고 1단계부터 다시 시작한다.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern GRADE_SELECT = Pattern.compile("<select[^>]*id=\"grade\"[^>]*>(.*?)</select>", Pattern.DOTALL);
+    private static final Pattern OPTION_VALUE = Pattern.compile("<option[^>]*value=\"([^\"]+)\"");
+    private static final Pattern MANAGEMENT_TYPE = Pattern.compile("<input[^>]*name=\"managementType\"[^>]*value=\"([^\"]+)\"");
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지아", "주원", "서윤"};
+
+    private final int id;
+    private final URI baseUri;
+    private final String empNo;
+    private final String password;
+    private final Duration thinkTime;
+    private final long measureFromNanos;
+    private final long deadlineNanos;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random;
+    private final HttpClient client;
+    private final Map<WizardStep, StepRecorder> recorders = new EnumMap<>(WizardStep.class);
+    private final Map<String, Integer> abortReasons = new TreeMap<>();
+
+    private String authorization;
+    private int iteration;
+    private long completedOrders;
+    private long abortedOrders;
+
+    VirtualUser(int id, URI baseUri, String empNo, String password, Duration thinkTime,
+                long measureFromNanos, long deadlineNanos, ObjectMapper objectMapper, long seed) {
+        this.id = id;
+        this.baseUri = baseUri;
+        this.empNo = empNo;
+        this.password = password;
+        this.thinkTime = thinkTime;
+        this.measureFromNanos = measureFromNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.objectMapper = objectMapper;
+        this.random = new SplittableRandom(seed);
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (WizardStep step : WizardStep.values()) {
+            recorders.put(step, new StepRecorder(step.label()));
+        }
+    }
+
+    Map<WizardStep, StepRecorder> recorders() {
+        return recorders;
+    }
+
+    long completedOrders() {
+        return completedOrders;
+    }
+
+    long abortedOrders() {
+        return abortedOrders;
+    }
+
+    /**
+     * HTTP 오류가 아닌 주문 중단 사유별 건수 (모델 없음, JSON 오류 등)
+     */
+    Map<String, Integer> abortReasons() {
+        return abortReasons;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            if (authorization == null && !login()) {
+                think();
+                continue;
+            }
+            long started = System.nanoTime();
+            boolean completed = placeOrder();
+            if (started >= measureFromNanos) {
+                if (completed) {
+                    completedOrders++;
+                } else {
+                    abortedOrders++;
+                }
+            }
+            think();
+        }
+    }
+
+    private boolean login() {
+        String body = "{\"username\":\"" + empNo + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = send(WizardStep.LOGIN, request("/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)), 200, null);
+        if (response == null) {
+            return false;
+        }
+        authorization = response.headers().firstValue("Authorization").orElse(null);
+        return authorization != null;
+    }
+
+    /**
+     * 주문 한 건 (step1 → step2와 step2.html의 API 호출 → step3 확인 → 주문 확정)
+     */
+    private boolean placeOrder() {
+        iteration++;
+        if (send(WizardStep.STEP1_VIEW, request("/order/step1").GET(), 200, null) == null) {
+            return false;
+        }
+        think();
+
+        Map<String, String> customer = new LinkedHashMap<>();
+        customer.put("parentName", name());
+        customer.put("parentPhone", phone());
+        customer.put("childName", name());
+        customer.put("childGrade", "초" + (1 + random.nextInt(6)));
+        customer.put("school", "부하테스트초등학교");
+        if (send(WizardStep.STEP1_SUBMIT, form("/order/step1", customer), 302, "/order/step2") == null) {
+            return false;
+        }
+
+        HttpResponse<String> step2 = send(WizardStep.STEP2_VIEW, request("/order/step2").GET(), 200, null);
+        if (step2 == null) {
+            return false;
+        }
+        List<String> grades = gradeOptions(step2.body());
+        List<String> managementTypes = matches(MANAGEMENT_TYPE, step2.body());
+        if (grades.isEmpty() || managementTypes.isEmpty()) {
+            recordFailure(WizardStep.STEP2_VIEW, "no grade/management options");
+            return false;
+        }
+        String grade = grades.get(random.nextInt(grades.size()));
+        String managementType = managementTypes.get(random.nextInt(managementTypes.size()));
+        think();
+
+        HttpResponse<String> padTypesResponse = send(WizardStep.PAD_TYPES, request("/api/pad-types").GET(), 200, null);
+        if (padTypesResponse == null) {
+            return false;
+        }
+        List<String> padTypes = readJson(WizardStep.PAD_TYPES, padTypesResponse.body(), new TypeReference<List<String>>() { });
+        if (padTypes == null) {
+            return false;
+        }
+        padTypes = new ArrayList<>(padTypes);
+        think();
+
+        // 선택한 패드에 모델이 없으면 화면에서처럼 다른 패드를 골라 다시 조회
+        String padType = null;
+        List<Map<String, Object>> models = List.of();
+        while (models.isEmpty() && !padTypes.isEmpty()) {
+            padType = padTypes.remove(random.nextInt(padTypes.size()));
+            HttpResponse<String> modelsResponse = send(WizardStep.MODELS, request("/api/models?" + query(Map.of(
+                    "grade", grade, "managementType", managementType, "padType", padType))).GET(), 200, null);
+            if (modelsResponse == null) {
+                return false;
+            }
+            models = readJson(WizardStep.MODELS, modelsResponse.body(), new TypeReference<List<Map<String, Object>>>() { });
+            if (models == null) {
+                return false;
+            }
+        }
+        if (models.isEmpty()) {
+            recordFailure(WizardStep.MODELS, "no accessible model");
+            return false;
+        }
+        String productId = String.valueOf(models.get(random.nextInt(models.size())).get("id"));
+        String quantity = String.valueOf(random.nextInt(10) == 0 ? 2 : 1);
+
+        if (send(WizardStep.MODEL_PRICE, request("/api/model-price?productId=" + productId).GET(), 200, null) == null) {
+            return false;
+        }
+        think();
+        if (send(WizardStep.CALCULATE_TOTAL, request("/api/calculate-total?productId=" + productId
+                + "&quantity=" + quantity).GET(), 200, null) == null) {
+            return false;
+        }
+        think();
+
+        Map<String, String> selection = new LinkedHashMap<>();
+        selection.put("grade", grade);
+        selection.put("managementType", managementType);
+        selection.put("padType", padType);
+        selection.put("productId", productId);
+        selection.put("quantity", quantity);
+        if (send(WizardStep.STEP2_SUBMIT, form("/order/step2", selection), 302, "/order/step3") == null) {
+            return false;
+        }
+        if (send(WizardStep.STEP3_VIEW, request("/order/step3").GET(), 200, null) == null) {
+            return false;
+        }
+        think();
+
+        return send(WizardStep.CONFIRM, form("/order/step3", Map.of()), 302, "/orders") != null;
+    }
+
+    /**
+     * 요청 전송 및 기록 (기대 상태 코드/리다이렉트 위치가 아니면 오류로 기록하고 null 반환)
+     * 측정 시작 전(워밍업)에 보낸 요청은 기록하지 않는다.
+     */
+    private HttpResponse<String> send(WizardStep step, HttpRequest.Builder builder, int expectedStatus, String expectedLocation) {
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        long started = System.nanoTime();
+        boolean measured = started >= measureFromNanos;
+        StepRecorder recorder = recorders.get(step);
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            long latencyMicros = (System.nanoTime() - started) / 1_000;
+
+            String error = null;
+            if (response.statusCode() != expectedStatus) {
+                error = "HTTP " + response.statusCode();
+            } else if (expectedLocation != null) {
+                String location = response.headers().firstValue("Location").orElse("");
+                if (!URI.create(location).getPath().equals(expectedLocation)) {
+                    error = "redirect " + URI.create(location).getPath();
+                }
+            }
+
+            if (measured) {
+                if (error == null) {
+                    recorder.recordSuccess(latencyMicros);
+                } else {
+                    recorder.recordError(error);
+                }
+            }
+            if (error != null && response.statusCode() == 401) {
+                authorization = null;
+            }
+            return error == null ? response : null;
+        } catch (IOException e) {
+            if (measured) {
+                recorder.recordError(e.getClass().getSimpleName());
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder form(String path, Map<String, String> fields) {
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(query(fields)));
+    }
+
+    private static String query(Map<String, String> fields) {
+        StringBuilder query = new StringBuilder();
+        fields.forEach((key, value) -> {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(URLEncoder.encode(key, StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return query.toString();
+    }
+
+    /**
+     * JSON 응답 읽기 (읽을 수 없으면 오류로 기록하고 null 반환)
+     */
+    private <T> T readJson(WizardStep step, String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            recordFailure(step, "invalid JSON");
+            return null;
+        }
+    }
+
+    /**
+     * 응답은 정상이지만 내용 때문에 주문을 이어갈 수 없는 경우 (단계 오류가 아닌 주문 중단 사유로 기록)
+     */
+    private void recordFailure(WizardStep step, String reason) {
+        if (System.nanoTime() >= measureFromNanos) {
+            abortReasons.merge(step.label() + ": " + reason, 1, Integer::sum);
+        }
+    }
+
+    private static List<String> gradeOptions(String html) {
+        Matcher select = GRADE_SELECT.matcher(html);
+        return select.find() ? matches(OPTION_VALUE, select.group(1)) : List.of();
+    }
+
+    private static List<String> matches(Pattern pattern, String text) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+
+    private String name() {
+        return SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+    }
+
+    /**
+     * 사용자/반복 번호로 만든 연락처 (매 주문이 새 고객)
+     */
+    private String phone() {
+        long digits = Math.floorMod(((long) id << 24 | iteration) * 7_919_993L + 31_337L, 100_000_000L);
+        return String.format("010-%04d-%04d", digits / 10_000, digits % 10_000);
+    }
+
+    /**
+     * 생각 시간 (설정값의 0.5~1.5배, 종료 시각을 넘기지 않음)
+     */
+    private void think() {
+        long nanos = (long) (thinkTime.toNanos() * (0.5 + random.nextDouble()));
+        nanos = Math.min(nanos, deadlineNanos - System.nanoTime());
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.loadtest;
+
+/**
+ * 부하 테스트에서 측정하는 주문 마법사 단계 (보고서에 이 순서로 나온다)
+ */
+enum WizardStep {
+    LOGIN("login", "POST /login"),
+    STEP1_VIEW("step1.view", "GET /order/step1"),
+    STEP1_SUBMIT("step1.submit", "POST /order/step1"),
+    STEP2_VIEW("step2.view", "GET /order/step2"),
+    PAD_TYPES("api.pad-types", "GET /api/pad-types"),
+    MODELS("api.models", "GET /api/models"),
+    MODEL_PRICE("api.model-price", "GET /api/model-price"),
+    CALCULATE_TOTAL("api.calculate-total", "GET /api/calculate-total"),
+    STEP2_SUBMIT("step2.submit", "POST /order/step2"),
+    STEP3_VIEW("step3.view", "GET /order/step3"),
+    CONFIRM("step3.confirm", "POST /order/step3");
+
+    private final String label;
+    private final String request;
+
+    WizardStep(String label, String request) {
+        this.label = label;
+        this.request = request;
+    }
+
+    String label() {
+        return label;
+    }
+
+    String request() {
+        return request;
+    }
+}
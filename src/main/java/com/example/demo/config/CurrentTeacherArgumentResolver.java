@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import com.example.demo.user.CurrentTeacher;
+import com.example.demo.user.User;
+import com.example.demo.user.service.CurrentTeacherResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link CurrentTeacher} 파라미터 리졸버
+ * 한 요청 안에서는 요청 속성에 담아 두고 재사용한다.
+ */
+public class CurrentTeacherArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentTeacherArgumentResolver.class.getName() + ".teacher";
+
+    private final CurrentTeacherResolver currentTeacherResolver;
+
+    public CurrentTeacherArgumentResolver(CurrentTeacherResolver currentTeacherResolver) {
+        this.currentTeacherResolver = currentTeacherResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentTeacher.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User) {
+            return cached;
+        }
+
+        User teacher = currentTeacherResolver.getCurrentTeacher();
+        if (teacher != null) {
+            webRequest.setAttribute(REQUEST_ATTRIBUTE, teacher, RequestAttributes.SCOPE_REQUEST);
+        }
+        return teacher;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 지표 설정
+ * 서비스 메서드 지연은 @Timed("app.service"), 엔드포인트 지연은 http.server.requests로 수집하고
+ * 여기서는 요청당 SQL 문 수 집계를 애플리케이션 DataSource와 서블릿 필터에 연결한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String APPLICATION_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * JPA와 JdbcTemplate이 함께 쓰는 "dataSource" 빈만 감싼다.
+     * replica 프로파일의 primaryDataSource/replicaDataSource는 이 빈 뒤에 있으므로 감싸면 같은 문이 두 번 세어진다.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (APPLICATION_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementCountingDataSource(dataSource, sqlStatementCounter);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(SqlStatementCounter sqlStatementCounter,
+                                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(sqlStatementCounter, meterRegistry));
+        // 인증 필터에서 실행되는 SQL까지 세도록 가장 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 설정 (app.datasource.replica.enabled=true)
+ * spring.datasource.*는 주 DB 풀, app.datasource.replica.*는 복제본 풀이 되고,
+ * 애플리케이션이 쓰는 DataSource는 둘을 읽기 전용 여부로 나누는 ReadWriteRoutingDataSource가 된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${app.datasource.replica.max-lag:2s}") Duration maxLag,
+                                               @Value("${app.datasource.replica.heartbeat-interval:PT1S}") Duration heartbeatInterval,
+                                               @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow,
+                                               MeterRegistry meterRegistry) {
+        // 쓰기 직후 고정 시간이 허용 지연보다 짧으면 복제본에 아직 없는 주문을 읽을 수 있다
+        if (readYourWritesWindow.compareTo(maxLag) < 0) {
+            throw new IllegalArgumentException("read-your-writes-window는 max-lag보다 짧을 수 없습니다.");
+        }
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, heartbeatInterval);
+        Gauge.builder("app.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagMillis)
+                .description("Last measured replica lag in milliseconds (-1 when the replica could not be measured)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 RecentWriteTracker recentWriteTracker,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, recentWriteTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 JDBC 연결을 반납하도록 설정
+     * 기본값(open-in-view에서 요청 끝까지 연결 유지)이면 요청의 첫 트랜잭션이 고른 DB를 이후 쓰기 트랜잭션까지 계속 쓰게 된다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 그 밖의 모든 연결은 주 DB로 보낸다.
+ * 복제본 지연이 허용치를 넘었거나 현재 교사가 방금 쓰기를 했으면(read-your-writes) 읽기 전용이어도 주 DB를 쓴다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 정해지지 않으므로 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 때 고르게 한다.
+ * 라우팅 결과는 app.datasource.routing 카운터(target, reason 태그)로 남긴다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private enum Reason {
+        WRITE(Target.PRIMARY, "write"),
+        REPLICA_LAG(Target.PRIMARY, "replica-lag"),
+        READ_YOUR_WRITES(Target.PRIMARY, "read-your-writes"),
+        READ(Target.REPLICA, "read");
+
+        private final Target target;
+        private final String tag;
+
+        Reason(Target target, String tag) {
+            this.target = target;
+            this.tag = tag;
+        }
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Map<Reason, Counter> routed = new EnumMap<>(Reason.class);
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriteTracker = recentWriteTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (Reason reason : Reason.values()) {
+            routed.put(reason, Counter.builder("app.datasource.routing")
+                    .description("JDBC connections handed out, by target database and routing reason")
+                    .tag("target", reason.target.name().toLowerCase())
+                    .tag("reason", reason.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Reason reason = route();
+        routed.get(reason).increment();
+        return reason.target;
+    }
+
+    private Reason route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Reason.WRITE;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            return Reason.REPLICA_LAG;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof String empNo
+                && recentWriteTracker.isRecentWriter(empNo)) {
+            return Reason.READ_YOUR_WRITES;
+        }
+        return Reason.READ;
+    }
+}
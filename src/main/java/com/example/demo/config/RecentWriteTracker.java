@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 한 교사 기록 (read-your-writes)
+ * 쓰기가 커밋된 뒤 app.datasource.replica.read-your-writes-window 동안은 그 교사의 읽기 전용 트랜잭션도
+ * 주 DB로 보내, 복제본에 아직 반영되지 않은 방금 만든 주문이 목록에서 빠지지 않게 한다.
+ * 읽기 복제본 라우팅이 꺼져 있으면 아무것도 기록하지 않는다.
+ */
+@Component
+public class RecentWriteTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public RecentWriteTracker(@Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                              @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window,
+                              @Value("${app.datasource.replica.read-your-writes-max-entries:100000}") long maxEntries) {
+        this.recentWriters = replicaEnabled
+                ? Caffeine.newBuilder().expireAfterWrite(window).maximumSize(maxEntries).build()
+                : null;
+    }
+
+    /**
+     * 교사의 쓰기 기록 (트랜잭션 안이면 커밋된 시점부터 유지 시간을 센다)
+     */
+    public void markWritten(String empNo) {
+        if (recentWriters == null || empNo == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(empNo, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(empNo, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 유지 시간 안에 쓰기를 한 교사인지 확인
+     */
+    public boolean isRecentWriter(String empNo) {
+        return recentWriters != null && empNo != null && recentWriters.getIfPresent(empNo) != null;
+    }
+}
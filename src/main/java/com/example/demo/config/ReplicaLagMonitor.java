@@ -0,0 +1,70 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 지연 측정 (하트비트)
+ * 주기마다 주 DB의 replica_heartbeat 행 (V3 마이그레이션)에 현재 시각을 쓰고 복제본에서 다시 읽어, 복제본에 보이는 값이 얼마나 뒤처졌는지를 지연으로 본다.
+ * 지연이 max-lag 이하이고 마지막 측정이 오래되지 않았을 때만 복제본을 쓸 수 있다고 판단하며,
+ * 기동 직후 첫 측정 전이나 복제본에 하트비트 테이블이 없거나 연결되지 않으면 읽기는 모두 주 DB로 간다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final long NOT_MEASURED = -1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long staleAfterNanos;
+
+    private volatile long lagMillis = NOT_MEASURED;
+    private volatile long measuredAtNanos;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag, Duration heartbeatInterval) {
+        if (maxLag.isNegative() || heartbeatInterval.isZero() || heartbeatInterval.isNegative()) {
+            throw new IllegalArgumentException("max-lag는 음수일 수 없고 heartbeat-interval은 0보다 커야 합니다.");
+        }
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLag.toMillis();
+        // 측정이 두 주기 넘게 밀리면 마지막 값은 더 이상 믿지 않는다
+        this.staleAfterNanos = heartbeatInterval.multipliedBy(2).plus(maxLag).toNanos();
+    }
+
+    /**
+     * 하트비트 기록 후 복제본 지연 측정
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval:PT1S}")
+    public void heartbeat() {
+        try {
+            long beat = System.currentTimeMillis();
+            primary.update("merge into replica_heartbeat (id, beat_millis) key (id) values (1, ?)", beat);
+            Long seen = replica.queryForObject("select beat_millis from replica_heartbeat where id = 1", Long.class);
+            long now = System.currentTimeMillis();
+            // 이번 하트비트가 아직 안 보이면 마지막으로 보인 하트비트 이후 흐른 시간이 지연
+            lagMillis = seen == null ? Long.MAX_VALUE : seen >= beat ? now - beat : now - seen;
+            measuredAtNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            lagMillis = NOT_MEASURED;
+        }
+    }
+
+    /**
+     * 복제본으로 읽기를 보내도 되는지 확인
+     */
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+        return lag != NOT_MEASURED && lag <= maxLagMillis && System.nanoTime() - measuredAtNanos <= staleAfterNanos;
+    }
+
+    /**
+     * 마지막으로 측정한 지연 (ms, 측정 실패 시 -1)
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
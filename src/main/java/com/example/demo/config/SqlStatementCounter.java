@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+/**
+ * 요청 처리 중 실행된 SQL 문 수 집계
+ * StatementCountingDataSource가 실행마다 increment를 호출하고, 요청 스레드에서 start/stop 사이의 실행만 센다
+ * (요청 밖의 스케줄 작업 등은 세지 않는다).
+ */
+public class SqlStatementCounter {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    boolean isCounting() {
+        return counts.get() != null;
+    }
+
+    void increment() {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    void start() {
+        counts.set(new int[1]);
+    }
+
+    int stop() {
+        int[] count = counts.get();
+        counts.remove();
+        return count == null ? 0 : count[0];
+    }
+}
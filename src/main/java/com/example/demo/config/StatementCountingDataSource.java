@@ -0,0 +1,84 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 실행된 SQL 문을 SqlStatementCounter에 알리는 DataSource
+ * JPA(Hibernate)와 JdbcTemplate이 같은 DataSource 빈을 쓰므로 두 경로의 SQL이 모두 JDBC 수준에서 한 번씩 세어진다.
+ * execute, executeQuery, executeUpdate, executeBatch 호출 하나를 한 문으로 센다 (배치는 묶음 하나가 한 문).
+ */
+class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementCounter counter;
+
+    StatementCountingDataSource(DataSource targetDataSource, SqlStatementCounter counter) {
+        super(targetDataSource);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            // 집계 중인 요청 스레드에서 만든 문장만 감싼다
+            if (result instanceof Statement statement && counter.isCounting()) {
+                return countingStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                counter.increment();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    /**
+     * equals/hashCode는 프록시 자신 기준으로, 나머지 호출은 target에 위임하는 프록시
+     */
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        Object proxy = Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "toString" -> "Counting[" + target + "]";
+                    default -> handler.invoke(self, method, args);
+                });
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
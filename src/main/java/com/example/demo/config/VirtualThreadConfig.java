@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드 확인 (spring.threads.virtual.enabled=true)
+ * Spring Boot는 Java 21 미만에서 이 설정을 조용히 무시하므로, 켜 놓고 플랫폼 스레드로 도는 일이 없도록 기동 시 막는다.
+ * 모드가 켜지면 Tomcat 요청 처리와 @Scheduled 작업이 가상 스레드에서 실행된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true는 Java 21 이상에서만 사용할 수 있습니다. "
+                    + "(현재 Java " + JavaVersion.getJavaVersion() + ", -Pjava21로 빌드해 Java 21로 실행)");
+        }
+    }
+}
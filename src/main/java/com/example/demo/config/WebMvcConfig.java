@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import com.example.demo.user.service.CurrentTeacherResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentTeacherResolver currentTeacherResolver;
+
+    public WebMvcConfig(CurrentTeacherResolver currentTeacherResolver) {
+        this.currentTeacherResolver = currentTeacherResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentTeacherArgumentResolver(currentTeacherResolver));
+    }
+}
@@ -1,23 +1,33 @@
 package com.example.demo.customer;
 
+import com.example.demo.customer.event.CustomerEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "customer")
+@Table(name = "customer", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_customer_dedup_key", columnNames = "dedupKey")
+})
+@EntityListeners(CustomerEntityListener.class)
 public class Customer {
     
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq_gen")
+    @SequenceGenerator(name = "customer_seq_gen", sequenceName = "customer_seq", allocationSize = 50)
     private Long id;
     
     // 부모 정보 (Parent Information)
@@ -43,6 +53,10 @@ public class Customer {
     @Column(length = 100)
     private String school;
     
+    // 중복 확인 키 (연락처 숫자 + 정규화된 부모 이름)
+    @Column(nullable = false, length = 130)
+    private String dedupKey;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -53,10 +67,34 @@ public class Customer {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        dedupKey = dedupKeyOf(parentName, parentPhone);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        dedupKey = dedupKeyOf(parentName, parentPhone);
+    }
+    
+    /**
+     * 중복 확인 키 생성
+     * 연락처는 숫자만, 부모 이름은 NFC 정규화 + 공백 정리 + 소문자로 변환한다.
+     */
+    public static String dedupKeyOf(String parentName, String parentPhone) {
+        StringBuilder key = new StringBuilder(32);
+        if (parentPhone != null) {
+            for (int i = 0; i < parentPhone.length(); i++) {
+                char c = parentPhone.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    key.append(c);
+                }
+            }
+        }
+        key.append('|');
+        if (parentName != null) {
+            String name = Normalizer.normalize(parentName, Normalizer.Form.NFC).trim();
+            key.append(WHITESPACE.matcher(name).replaceAll(" ").toLowerCase(Locale.ROOT));
+        }
+        return key.toString();
     }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package com.example.demo.customer.controller;
 
 import com.example.demo.customer.Customer;
+import com.example.demo.customer.dto.CustomerSearchPage;
+import com.example.demo.customer.dto.CustomerSummary;
 import com.example.demo.customer.service.CustomerService;
+import com.example.demo.user.CurrentTeacher;
 import com.example.demo.user.User;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -17,20 +18,16 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerService customerService;
-    private final com.example.demo.user.repository.UserRepository userRepository;
 
-    public CustomerController(CustomerService customerService,
-            com.example.demo.user.repository.UserRepository userRepository) {
+    public CustomerController(CustomerService customerService) {
         this.customerService = customerService;
-        this.userRepository = userRepository;
     }
 
     /**
      * 고객 검색 팝업 페이지
      */
     @GetMapping("/search")
-    public String searchPopup(Model model) {
-        User currentTeacher = getCurrentTeacher();
+    public String searchPopup(@CurrentTeacher User currentTeacher, Model model) {
         if (currentTeacher == null) {
             return "redirect:/login";
         }
@@ -40,31 +37,46 @@ public class CustomerController {
     }
 
     /**
-     * 고객 검색 API (Ajax)
+     * 고객 검색 API (Ajax, 다음 페이지는 이전 응답의 nextAfterId를 afterId로 전달)
      */
     @PostMapping("/search")
     @ResponseBody
-    public ResponseEntity<List<Customer>> searchCustomers(@RequestParam("keyword") String keyword) {
-        User currentTeacher = getCurrentTeacher();
+    public ResponseEntity<CustomerSearchPage> searchCustomers(@CurrentTeacher User currentTeacher,
+                                                              @RequestParam("keyword") String keyword,
+                                                              @RequestParam(value = "afterId", required = false) Long afterId,
+                                                              @RequestParam(value = "size", defaultValue = "20") int size) {
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
 
         try {
-            List<Customer> customers = customerService.searchCustomers(keyword);
-            return ResponseEntity.ok(customers);
+            return ResponseEntity.ok(customerService.searchCustomers(keyword, afterId, size));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * 고객 자동완성 API (Ajax, 입력할 때마다 호출)
+     */
+    @GetMapping("/typeahead")
+    @ResponseBody
+    public ResponseEntity<List<CustomerSummary>> suggestCustomers(@CurrentTeacher User currentTeacher,
+                                                                     @RequestParam("q") String query,
+                                                                     @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (currentTeacher == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(customerService.suggestCustomers(query, limit));
+    }
+
     /**
      * 고객 상세 정보 조회 API (Ajax)
      */
     @GetMapping("/detail/{id}")
     @ResponseBody
-    public ResponseEntity<Customer> getCustomerDetail(@PathVariable Long id) {
-        User currentTeacher = getCurrentTeacher();
+    public ResponseEntity<Customer> getCustomerDetail(@CurrentTeacher User currentTeacher, @PathVariable Long id) {
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
@@ -77,16 +89,4 @@ public class CustomerController {
             return ResponseEntity.badRequest().build();
         }
     }
-
-    /**
-     * 현재 로그인한 교사 정보 가져오기
-     */
-    private User getCurrentTeacher() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof String) {
-            String empNo = (String) authentication.getPrincipal();
-            return userRepository.findById(empNo).orElse(null);
-        }
-        return null;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.demo.customer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 고객 검색 결과 한 페이지 (nextAfterId가 null이면 마지막 페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class CustomerSearchPage {
+
+    private List<CustomerSummary> customers;
+    private Long nextAfterId;
+}
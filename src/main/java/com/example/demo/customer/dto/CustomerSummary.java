@@ -0,0 +1,41 @@
+package com.example.demo.customer.dto;
+
+import lombok.Getter;
+
+/**
+ * 고객 목록 항목 (검색/자동완성 목록 표시에 필요한 필드만, 연락처는 가운데 자리를 가림)
+ */
+@Getter
+public class CustomerSummary {
+
+    private final Long id;
+    private final String parentName;
+    private final String childName;
+    private final String parentPhone;
+    private final String childGrade;
+
+    public CustomerSummary(Long id, String parentName, String childName, String parentPhone, String childGrade) {
+        this.id = id;
+        this.parentName = parentName;
+        this.childName = childName;
+        this.parentPhone = maskPhone(parentPhone);
+        this.childGrade = childGrade;
+    }
+
+    /**
+     * 연락처 가운데 자리 가리기 (예: 010-1234-5678 → 010-****-5678)
+     */
+    static String maskPhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String[] parts = phone.split("-");
+        if (parts.length == 3) {
+            return parts[0] + "-" + "*".repeat(parts[1].length()) + "-" + parts[2];
+        }
+        if (phone.length() >= 8) {
+            return phone.substring(0, 3) + "*".repeat(phone.length() - 7) + phone.substring(phone.length() - 4);
+        }
+        return phone;
+    }
+}
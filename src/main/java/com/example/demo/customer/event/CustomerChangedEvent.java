@@ -0,0 +1,49 @@
+package com.example.demo.customer.event;
+
+/**
+ * 고객 데이터 변경 이벤트 (검색 인덱스 갱신 트리거)
+ * 커밋 이후 처리되므로 변경 시점의 검색 대상 필드 값을 함께 담는다.
+ */
+public class CustomerChangedEvent {
+
+    private final Long customerId;
+    private final String parentName;
+    private final String childName;
+    private final String parentPhone;
+    private final String childGrade;
+    private final boolean removed;
+
+    public CustomerChangedEvent(Long customerId, String parentName, String childName,
+                                String parentPhone, String childGrade, boolean removed) {
+        this.customerId = customerId;
+        this.parentName = parentName;
+        this.childName = childName;
+        this.parentPhone = parentPhone;
+        this.childGrade = childGrade;
+        this.removed = removed;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public String getParentName() {
+        return parentName;
+    }
+
+    public String getChildName() {
+        return childName;
+    }
+
+    public String getParentPhone() {
+        return parentPhone;
+    }
+
+    public String getChildGrade() {
+        return childGrade;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+}
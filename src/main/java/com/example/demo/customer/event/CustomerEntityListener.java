@@ -0,0 +1,35 @@
+package com.example.demo.customer.event;
+
+import com.example.demo.customer.Customer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Customer 엔티티 변경 감지 리스너
+ * 저장/수정/삭제 시 CustomerChangedEvent를 발행한다.
+ */
+@Component
+public class CustomerEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CustomerEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onCustomerSaved(Customer customer) {
+        eventPublisher.publishEvent(new CustomerChangedEvent(customer.getId(),
+                customer.getParentName(), customer.getChildName(), customer.getParentPhone(),
+                customer.getChildGrade(), false));
+    }
+
+    @PostRemove
+    public void onCustomerRemoved(Customer customer) {
+        eventPublisher.publishEvent(new CustomerChangedEvent(customer.getId(), null, null, null, null, true));
+    }
+}
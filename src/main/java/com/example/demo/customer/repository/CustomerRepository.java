@@ -1,12 +1,16 @@
 package com.example.demo.customer.repository;
 
 import com.example.demo.customer.Customer;
+import com.example.demo.customer.dto.CustomerSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
@@ -27,16 +31,50 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     List<Customer> findByParentPhoneContaining(String parentPhone);
     
     /**
-     * 부모 이름, 자녀 이름, 연락처로 통합 검색
+     * 부모 이름, 자녀 이름, 연락처로 통합 검색 (목록 항목 컬럼만, id 기준 키셋 페이징)
      */
-    @Query("SELECT c FROM Customer c WHERE " +
+    @Query("SELECT new com.example.demo.customer.dto.CustomerSummary(" +
+           "c.id, c.parentName, c.childName, c.parentPhone, c.childGrade) FROM Customer c WHERE " +
+           "c.id > :afterId AND (" +
            "LOWER(c.parentName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(c.childName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "c.parentPhone LIKE CONCAT('%', :keyword, '%')")
-    List<Customer> searchByKeyword(@Param("keyword") String keyword);
+           "c.parentPhone LIKE CONCAT('%', :keyword, '%')) " +
+           "ORDER BY c.id")
+    List<CustomerSummary> searchSummariesByKeyword(@Param("keyword") String keyword,
+                                                   @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * ID 목록으로 고객 목록 항목 조회 (검색 인덱스 결과 조회용)
+     */
+    @Query("SELECT new com.example.demo.customer.dto.CustomerSummary(" +
+           "c.id, c.parentName, c.childName, c.parentPhone, c.childGrade) FROM Customer c " +
+           "WHERE c.id IN :ids ORDER BY c.id")
+    List<CustomerSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 검색 인덱스 적재용 조회 (id, 부모 이름, 자녀 이름, 연락처, 자녀 학년만, id 기준 키셋 페이징)
+     */
+    @Query("SELECT c.id, c.parentName, c.childName, c.parentPhone, c.childGrade FROM Customer c " +
+           "WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
     
     /**
      * 중복 고객 확인 (부모 이름 + 연락처)
      */
     boolean existsByParentNameAndParentPhone(String parentName, String parentPhone);
+    
+    /**
+     * 중복 확인 키로 고객 조회 (uk_customer_dedup_key 인덱스 사용)
+     */
+    Optional<Customer> findByDedupKey(String dedupKey);
+    
+    /**
+     * 중복 확인 키 목록으로 고객 조회 (일괄 등록 시 한 번에 조회)
+     */
+    List<Customer> findByDedupKeyIn(Collection<String> dedupKeys);
+    
+    /**
+     * 중복 확인 키 존재 여부
+     */
+    boolean existsByDedupKey(String dedupKey);
 }
\ No newline at end of file
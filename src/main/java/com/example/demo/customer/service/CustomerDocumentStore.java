@@ -0,0 +1,180 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.event.CustomerChangedEvent;
+import com.example.demo.customer.repository.CustomerRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고객 검색 색인(CustomerSearchIndex)과 자동완성(CustomerTypeahead)이 함께 쓰는 고객 문서 저장소
+ * 기동 시 전체 고객을 한 번만 키셋 페이징으로 읽어 고객 ID별 검색 필드를 한 벌만 보관하고,
+ * 고객 저장/수정/삭제는 커밋 후 이벤트로 받아 문서를 바꾼 뒤 등록된 색인에 이전/이후 문서를 알린다.
+ * 색인의 조회와 갱신은 이 저장소의 잠금 하나로 보호한다.
+ */
+@Component
+public class CustomerDocumentStore {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final CustomerRepository customerRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<CustomerChangedEvent> pendingDuringBuild = new ConcurrentLinkedQueue<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private Map<Integer, CustomerDocument> documents = new HashMap<>();
+    private volatile boolean building;
+    private volatile boolean ready;
+
+    public CustomerDocumentStore(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    /**
+     * 적재와 변경을 받을 색인 등록
+     */
+    void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 사용 가능 여부 (기동 시 적재가 끝나기 전에는 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인 조회용 읽기 잠금 (get은 이 잠금을 잡은 상태에서 호출한다)
+     */
+    Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * 고객 ID로 문서 조회 (없으면 null)
+     */
+    CustomerDocument get(int id) {
+        return documents.get(id);
+    }
+
+    /**
+     * 기동 완료 시 전체 고객을 키셋 페이징으로 읽고 등록된 색인을 새로 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        building = true;
+        ready = false;
+        Map<Integer, CustomerDocument> newDocuments = new HashMap<>();
+        int[] loadedIds = new int[LOAD_BATCH_SIZE];
+        int loaded = 0;
+
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = customerRepository.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                int customerId = Math.toIntExact(id);
+                if (loaded == loadedIds.length) {
+                    loadedIds = Arrays.copyOf(loadedIds, loaded * 2);
+                }
+                loadedIds[loaded++] = customerId;
+                newDocuments.put(customerId,
+                        new CustomerDocument((String) row[1], (String) row[2], (String) row[3], (String) row[4]));
+                afterId = id;
+            }
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 적재 중 변경은 큐에 쌓이므로 새 문서는 아직 이 스레드만 본다
+        int[] ids = Arrays.copyOf(loadedIds, loaded);
+        for (Listener listener : listeners) {
+            listener.rebuild(ids, newDocuments);
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            building = false;
+            // 적재 중에 들어온 변경 사항 반영
+            CustomerChangedEvent event;
+            while ((event = pendingDuringBuild.poll()) != null) {
+                apply(event);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 고객 변경 트랜잭션 커밋 후 문서와 색인 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.getCustomerId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                pendingDuringBuild.add(event);
+                return;
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(CustomerChangedEvent event) {
+        int id = Math.toIntExact(event.getCustomerId());
+        CustomerDocument previous = documents.remove(id);
+        CustomerDocument current = null;
+        if (!event.isRemoved()) {
+            current = new CustomerDocument(event.getParentName(), event.getChildName(),
+                    event.getParentPhone(), event.getChildGrade());
+            documents.put(id, current);
+        }
+        for (Listener listener : listeners) {
+            listener.onChanged(id, previous, current);
+        }
+    }
+
+    /**
+     * 고객 검색 필드 (원문 그대로 보관)
+     */
+    record CustomerDocument(String parentName, String childName, String parentPhone, String childGrade) {
+    }
+
+    /**
+     * 고객 문서로 만든 색인
+     */
+    interface Listener {
+
+        /**
+         * 전체 적재 결과로 색인을 새로 만든다 (공개 전이라 잠금 없이 호출, ids는 오름차순)
+         */
+        void rebuild(int[] ids, Map<Integer, CustomerDocument> documents);
+
+        /**
+         * 고객 한 명의 문서 변경 반영 (쓰기 잠금 안에서 호출, 신규면 previous, 삭제면 current가 null)
+         */
+        void onChanged(int id, CustomerDocument previous, CustomerDocument current);
+    }
+}
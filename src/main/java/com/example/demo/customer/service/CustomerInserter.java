@@ -0,0 +1,58 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.Customer;
+import com.example.demo.customer.event.CustomerChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신규 고객 등록 (중복 확인 키가 없을 때만 INSERT)
+ * 호출한 쪽 트랜잭션의 연결에서 문장 하나로 실행하므로 연결을 더 잡지 않고, 주문이 롤백되면 고객 등록도 함께 롤백된다.
+ * JPA persist와 달리 실패한 문장만 취소되어 동시 등록으로 키가 겹쳐도 트랜잭션이 rollback-only가 되지 않는다.
+ * id는 customer_seq 값 하나를 그대로 쓴다 (pooled-lo에서 그 값으로 시작하는 블록은 Hibernate가 받지 않으므로 겹치지 않음).
+ */
+@Component
+class CustomerInserter {
+
+    private static final String INSERT_IF_ABSENT =
+            "INSERT INTO customer (id, parent_name, parent_phone, parent_email, address, child_name, child_grade, "
+            + "school, dedup_key, created_at, updated_at) "
+            + "SELECT NEXT VALUE FOR customer_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? FROM DUAL "
+            + "WHERE NOT EXISTS (SELECT 1 FROM customer WHERE dedup_key = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    CustomerInserter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 중복 확인 키가 없으면 고객 등록 (등록했으면 true)
+     */
+    public boolean insertIfAbsent(Customer customer, String dedupKey) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(INSERT_IF_ABSENT,
+                    customer.getParentName(), customer.getParentPhone(), customer.getParentEmail(), customer.getAddress(),
+                    customer.getChildName(), customer.getChildGrade(), customer.getSchool(), dedupKey, now, now, dedupKey);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 같은 고객을 먼저 등록함
+            return false;
+        }
+        if (inserted == 0) {
+            return false;
+        }
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM customer WHERE dedup_key = ?", Long.class, dedupKey);
+        // JPA 리스너를 거치지 않으므로 검색 인덱스 갱신 이벤트를 직접 발행 (커밋 후 반영)
+        eventPublisher.publishEvent(new CustomerChangedEvent(id, customer.getParentName(), customer.getChildName(),
+                customer.getParentPhone(), customer.getChildGrade(), false));
+        return true;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.service.CustomerDocumentStore.CustomerDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고객 검색용 N-gram 역색인
+ * 부모/자녀 이름은 1~3-gram, 연락처는 3-gram으로 색인하고 gram별 고객 ID를 정렬된 int 배열로 보관한다.
+ * 검색어의 gram 목록을 교집합한 뒤 원문 포함 여부를 다시 확인하므로 결과는 LIKE '%검색어%'와 같다.
+ * 고객 원문과 적재/변경 반영은 CustomerDocumentStore가 맡고, 여기서는 gram별 목록만 보관한다.
+ */
+@Component
+public class CustomerSearchIndex implements CustomerDocumentStore.Listener {
+
+    private static final int MAX_GRAM = 3;
+
+    private final CustomerDocumentStore documentStore;
+
+    private Map<String, SortedIds> postingsByGram = new HashMap<>();
+
+    public CustomerSearchIndex(CustomerDocumentStore documentStore) {
+        this.documentStore = documentStore;
+        documentStore.addListener(this);
+    }
+
+    /**
+     * 색인 사용 가능 여부 (기동 시 적재가 끝나기 전에는 false)
+     */
+    public boolean isReady() {
+        return documentStore.isReady();
+    }
+
+    /**
+     * 이 검색어를 색인으로 처리할 수 있는지 여부
+     * 연락처는 3-gram만 색인하므로 숫자나 '-'가 포함된 3자 미만 검색어는 처리할 수 없다.
+     */
+    public boolean supports(String keyword) {
+        if (!isReady() || keyword == null || keyword.isEmpty()) {
+            return false;
+        }
+        if (keyword.length() >= MAX_GRAM) {
+            return true;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검색어를 포함하는 고객 중 afterId보다 큰 ID를 오름차순으로 최대 limit개 반환
+     */
+    public List<Long> search(String keyword, long afterId, int limit) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<String> grams = queryGrams(lowerKeyword);
+
+        documentStore.readLock().lock();
+        try {
+            SortedIds[] lists = new SortedIds[grams.size()];
+            for (int i = 0; i < grams.size(); i++) {
+                SortedIds postings = postingsByGram.get(grams.get(i));
+                if (postings == null || postings.size() == 0) {
+                    return List.of();
+                }
+                lists[i] = postings;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+            List<Long> matches = new ArrayList<>();
+            SortedIds smallest = lists[0];
+            for (int i = smallest.indexAfter(afterId); i < smallest.size() && matches.size() < limit; i++) {
+                int id = smallest.get(i);
+                if (containsInAll(lists, id) && matches(documentStore.get(id), lowerKeyword, keyword)) {
+                    matches.add((long) id);
+                }
+            }
+            return matches;
+        } finally {
+            documentStore.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(int[] ids, Map<Integer, CustomerDocument> documents) {
+        Map<String, SortedIds> newPostings = new HashMap<>();
+        for (int id : ids) {
+            add(newPostings, id, documents.get(id));
+        }
+        postingsByGram = newPostings;
+    }
+
+    @Override
+    public void onChanged(int id, CustomerDocument previous, CustomerDocument current) {
+        if (previous != null) {
+            for (String gram : documentGrams(previous)) {
+                SortedIds postings = postingsByGram.get(gram);
+                if (postings != null) {
+                    postings.remove(id);
+                    if (postings.size() == 0) {
+                        postingsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+        if (current != null) {
+            add(postingsByGram, id, current);
+        }
+    }
+
+    private static void add(Map<String, SortedIds> postingsByGram, int id, CustomerDocument document) {
+        for (String gram : documentGrams(document)) {
+            postingsByGram.computeIfAbsent(gram, key -> new SortedIds()).add(id);
+        }
+    }
+
+    private static Set<String> documentGrams(CustomerDocument document) {
+        String parentName = lower(document.parentName());
+        String childName = lower(document.childName());
+        Set<String> grams = new LinkedHashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            addGrams(grams, parentName, n);
+            addGrams(grams, childName, n);
+        }
+        addGrams(grams, text(document.parentPhone()), MAX_GRAM);
+        return grams;
+    }
+
+    private static List<String> queryGrams(String lowerKeyword) {
+        if (lowerKeyword.length() < MAX_GRAM) {
+            return List.of(lowerKeyword);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(grams, lowerKeyword, MAX_GRAM);
+        return new ArrayList<>(grams);
+    }
+
+    private static void addGrams(Set<String> grams, String text, int n) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (text.length() < n) {
+            if (n == MAX_GRAM) {
+                grams.add(text);
+            }
+            return;
+        }
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+    }
+
+    private static boolean containsInAll(SortedIds[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(CustomerDocument document, String lowerKeyword, String keyword) {
+        return document != null
+                && (lower(document.parentName()).contains(lowerKeyword)
+                || lower(document.childName()).contains(lowerKeyword)
+                || text(document.parentPhone()).contains(keyword));
+    }
+
+    /**
+     * 소문자로 바꾼 이름 (바꿀 글자가 없는 한글 이름은 새 문자열을 만들지 않는다)
+     */
+    private static String lower(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static String text(String text) {
+        return text == null ? "" : text;
+    }
+}
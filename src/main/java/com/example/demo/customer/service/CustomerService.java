@@ -1,31 +1,71 @@
 package com.example.demo.customer.service;
 
 import com.example.demo.customer.Customer;
+import com.example.demo.customer.dto.CustomerSearchPage;
+import com.example.demo.customer.dto.CustomerSummary;
 import com.example.demo.customer.repository.CustomerRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed("app.service")
 @Transactional(readOnly = true)
 public class CustomerService {
     
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    
     private final CustomerRepository customerRepository;
+    private final CustomerInserter customerInserter;
+    private final CustomerSearchIndex customerSearchIndex;
+    private final CustomerTypeahead customerTypeahead;
     
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository, CustomerInserter customerInserter,
+                           CustomerSearchIndex customerSearchIndex, CustomerTypeahead customerTypeahead) {
         this.customerRepository = customerRepository;
+        this.customerInserter = customerInserter;
+        this.customerSearchIndex = customerSearchIndex;
+        this.customerTypeahead = customerTypeahead;
     }
     
     /**
-     * 키워드로 고객 검색 (부모 이름, 자녀 이름, 연락처 통합 검색)
+     * 키워드로 고객 검색 (부모 이름, 자녀 이름, 연락처 통합 검색, id 기준 키셋 페이징)
      */
-    public List<Customer> searchCustomers(String keyword) {
+    public CustomerSearchPage searchCustomers(String keyword, Long afterId, int size) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return List.of();
+            return new CustomerSearchPage(List.of(), null);
         }
-        return customerRepository.searchByKeyword(keyword.trim());
+        String trimmed = keyword.trim();
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        long after = afterId == null ? 0 : afterId;
+        
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<CustomerSummary> rows;
+        if (!customerSearchIndex.supports(trimmed)) {
+            // 색인으로 처리할 수 없는 경우(적재 전, 짧은 숫자 검색어)에만 LIKE 검색
+            rows = customerRepository.searchSummariesByKeyword(trimmed, after, PageRequest.of(0, pageSize + 1));
+        } else {
+            List<Long> ids = customerSearchIndex.search(trimmed, after, pageSize + 1);
+            rows = ids.isEmpty() ? List.of() : customerRepository.findSummariesByIdIn(ids);
+        }
+        
+        if (rows.size() <= pageSize) {
+            return new CustomerSearchPage(rows, null);
+        }
+        List<CustomerSummary> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new CustomerSearchPage(page, page.get(pageSize - 1).getId());
+    }
+    
+    /**
+     * 입력 중인 검색어로 고객 자동완성 (이름 앞부분, 초성, 연락처 끝자리)
+     */
+    public List<CustomerSummary> suggestCustomers(String query, int limit) {
+        return customerTypeahead.suggest(query, limit);
     }
     
     /**
@@ -90,8 +130,24 @@ public class CustomerService {
         if (parentName == null || parentPhone == null) {
             return false;
         }
-        return customerRepository.existsByParentNameAndParentPhone(
-            parentName.trim(), parentPhone.trim());
+        return customerRepository.existsByDedupKey(Customer.dedupKeyOf(parentName, parentPhone));
+    }
+    
+    /**
+     * 중복 확인 키 기준으로 고객 조회 후 없으면 등록
+     * 호출한 쪽 트랜잭션 안에서 키가 없을 때만 INSERT 하고, 동시에 같은 고객이 등록되었으면 그 고객을 다시 조회한다.
+     */
+    @Transactional
+    public Customer findOrCreateCustomer(Customer customer) {
+        String dedupKey = Customer.dedupKeyOf(customer.getParentName(), customer.getParentPhone());
+        Optional<Customer> existing = customerRepository.findByDedupKey(dedupKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        
+        customerInserter.insertIfAbsent(customer, dedupKey);
+        return customerRepository.findByDedupKey(dedupKey)
+                .orElseThrow(() -> new IllegalStateException("고객 등록 후 조회에 실패했습니다."));
     }
     
     /**
@@ -0,0 +1,487 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.dto.CustomerSummary;
+import com.example.demo.customer.service.CustomerDocumentStore.CustomerDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 고객 검색 팝업 자동완성용 접두어 트라이
+ * 부모/자녀 이름 원문과 초성(예: 김민수 → ㄱㅁㅅ), 연락처 끝 4자리(역순)를 트라이에 넣고
+ * 노드마다 최근 등록 순 상위 고객 ID를 미리 유지해 입력 한 글자마다 DB 조회 없이 노드 하나로 응답한다.
+ * 고객 원문과 적재/변경 반영은 CustomerDocumentStore가 맡고, 여기서는 트라이만 보관한다.
+ */
+@Component
+public class CustomerTypeahead implements CustomerDocumentStore.Listener {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final int PHONE_SUFFIX_LENGTH = 4;
+    private static final int MIXED_SCAN_LIMIT = 5_000;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int[] EMPTY = new int[0];
+
+    private final CustomerDocumentStore documentStore;
+
+    private Index index = new Index();
+
+    public CustomerTypeahead(CustomerDocumentStore documentStore) {
+        this.documentStore = documentStore;
+        documentStore.addListener(this);
+    }
+
+    /**
+     * 자동완성 사용 가능 여부 (기동 시 적재가 끝나기 전에는 false)
+     */
+    public boolean isReady() {
+        return documentStore.isReady();
+    }
+
+    /**
+     * 입력 중인 검색어로 고객 후보 조회 (최근 등록 순)
+     * 숫자만 입력하면 연락처 끝자리, 초성이 섞여 있으면 초성, 그 외에는 이름 앞부분으로 찾는다.
+     */
+    public List<CustomerSummary> suggest(String query, int limit) {
+        if (!isReady() || query == null) {
+            return List.of();
+        }
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        documentStore.readLock().lock();
+        try {
+            int[] ids;
+            String digits = phoneDigits(normalized);
+            if (digits != null) {
+                ids = suggestByPhone(digits, size);
+            } else if (hasChoseong(normalized)) {
+                ids = suggestByInitials(normalized, size);
+            } else {
+                ids = suggestByName(normalized, size);
+            }
+
+            List<CustomerSummary> suggestions = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                CustomerDocument document = documentStore.get(id);
+                suggestions.add(new CustomerSummary((long) id, document.parentName(), document.childName(),
+                        document.parentPhone(), document.childGrade()));
+            }
+            return suggestions;
+        } finally {
+            documentStore.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(int[] ids, Map<Integer, CustomerDocument> documents) {
+        Index newIndex = new Index();
+        for (int id : ids) {
+            newIndex.add(id, documents.get(id));
+        }
+        index = newIndex;
+    }
+
+    @Override
+    public void onChanged(int id, CustomerDocument previous, CustomerDocument current) {
+        if (previous != null) {
+            index.remove(id, previous);
+        }
+        if (current != null) {
+            index.add(id, current);
+        }
+    }
+
+    /**
+     * 연락처 끝자리 검색 (4자리까지는 트라이 노드 그대로, 그보다 길면 끝 4자리 노드의 고객을 다시 확인)
+     */
+    private int[] suggestByPhone(String digits, int size) {
+        if (digits.length() <= PHONE_SUFFIX_LENGTH) {
+            return index.phoneSuffixes.top(reverse(digits), size);
+        }
+        String suffixKey = reverse(digits.substring(digits.length() - PHONE_SUFFIX_LENGTH));
+        return index.phoneSuffixes.collect(suffixKey,
+                id -> phoneDigits(documentStore.get(id).parentPhone()).endsWith(digits), size, MIXED_SCAN_LIMIT);
+    }
+
+    /**
+     * 초성 검색 (완성된 글자가 섞여 있으면 초성으로 후보를 찾은 뒤 글자 단위로 다시 확인)
+     */
+    private int[] suggestByInitials(String query, int size) {
+        String initials = toInitials(query);
+        if (initials.equals(query)) {
+            return index.initials.top(initials, size);
+        }
+        return index.initials.collect(initials, id -> {
+            CustomerDocument document = documentStore.get(id);
+            return matchesMixed(document.parentName(), query) || matchesMixed(document.childName(), query);
+        }, size, MIXED_SCAN_LIMIT);
+    }
+
+    /**
+     * 이름 앞부분 검색 (마지막 글자에 받침이 없으면 입력 중인 글자로 보고 받침이 붙은 글자까지 포함)
+     */
+    private int[] suggestByName(String query, int size) {
+        char last = query.charAt(query.length() - 1);
+        if (isSyllable(last) && (last - SYLLABLE_FIRST) % JONGSEONG_COUNT == 0) {
+            return index.names.topOfRange(query.substring(0, query.length() - 1),
+                    last, (char) (last + JONGSEONG_COUNT - 1), size);
+        }
+        return index.names.top(query, size);
+    }
+
+    private static boolean matchesMixed(String name, String query) {
+        if (name == null) {
+            return false;
+        }
+        String lowerName = name.trim().toLowerCase(Locale.ROOT);
+        if (lowerName.length() < query.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char n = lowerName.charAt(i);
+            if (isChoseong(q) ? initialOf(n) != q : n != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 숫자와 '-'로만 이루어진 검색어면 숫자만 남겨 반환, 아니면 null
+     */
+    private static String phoneDigits(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c != '-') {
+                return null;
+            }
+        }
+        return digits.length() == 0 ? null : digits.toString();
+    }
+
+    private static String phoneSuffixKey(String parentPhone) {
+        String digits = phoneDigits(parentPhone);
+        if (digits == null || digits.length() < PHONE_SUFFIX_LENGTH) {
+            return null;
+        }
+        return reverse(digits.substring(digits.length() - PHONE_SUFFIX_LENGTH));
+    }
+
+    private static String toInitials(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            initials.append(initialOf(text.charAt(i)));
+        }
+        return initials.toString();
+    }
+
+    private static char initialOf(char c) {
+        return isSyllable(c) ? CHOSEONG.charAt((c - SYLLABLE_FIRST) / (21 * JONGSEONG_COUNT)) : c;
+    }
+
+    private static boolean hasChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChoseong(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static String reverse(String text) {
+        return new StringBuilder(text).reverse().toString();
+    }
+
+    private static List<String> nameKeys(CustomerDocument document) {
+        List<String> keys = new ArrayList<>(2);
+        if (document.parentName() != null && !document.parentName().isBlank()) {
+            keys.add(document.parentName().trim().toLowerCase(Locale.ROOT));
+        }
+        if (document.childName() != null && !document.childName().isBlank()) {
+            keys.add(document.childName().trim().toLowerCase(Locale.ROOT));
+        }
+        return keys;
+    }
+
+    /**
+     * 이름/초성/연락처 트라이 묶음
+     */
+    private static final class Index {
+
+        private final Trie names = new Trie();
+        private final Trie initials = new Trie();
+        private final Trie phoneSuffixes = new Trie();
+
+        void add(int id, CustomerDocument document) {
+            for (String name : nameKeys(document)) {
+                names.add(name, id);
+                String nameInitials = toInitials(name);
+                if (!nameInitials.equals(name)) {
+                    initials.add(nameInitials, id);
+                }
+            }
+            String suffixKey = phoneSuffixKey(document.parentPhone());
+            if (suffixKey != null) {
+                phoneSuffixes.add(suffixKey, id);
+            }
+        }
+
+        void remove(int id, CustomerDocument document) {
+            for (String name : nameKeys(document)) {
+                names.remove(name, id);
+                initials.remove(toInitials(name), id);
+            }
+            String suffixKey = phoneSuffixKey(document.parentPhone());
+            if (suffixKey != null) {
+                phoneSuffixes.remove(suffixKey, id);
+            }
+        }
+    }
+
+    /**
+     * 노드마다 하위 전체에서 ID가 큰(최근 등록) 순으로 MAX_LIMIT개를 유지하는 트라이
+     */
+    private static final class Trie {
+
+        private final Node root = new Node();
+
+        void add(String key, int id) {
+            Node node = root;
+            node.offer(id);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(id);
+            }
+            if (node.terminal == null) {
+                node.terminal = new SortedIds();
+            }
+            node.terminal.add(id);
+        }
+
+        void remove(String key, int id) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].child(key.charAt(i));
+                if (path[i + 1] == null) {
+                    return;
+                }
+            }
+            Node last = path[key.length()];
+            if (last.terminal == null || !last.terminal.contains(id)) {
+                return;
+            }
+            last.terminal.remove(id);
+
+            // 아래에서 위로 상위 목록을 다시 계산하고 빈 노드는 떼어 낸다
+            for (int i = key.length(); i >= 0; i--) {
+                Node node = path[i];
+                if (contains(node.top, id)) {
+                    node.recomputeTop();
+                }
+                if (i > 0 && node.isEmpty()) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                }
+            }
+        }
+
+        int[] top(String prefix, int size) {
+            Node node = find(prefix);
+            return node == null ? EMPTY : Arrays.copyOf(node.top, Math.min(size, node.top.length));
+        }
+
+        /**
+         * prefix 다음 글자가 from~to 범위인 하위 노드들의 상위 목록을 합친 결과
+         */
+        int[] topOfRange(String prefix, char from, char to, int size) {
+            Node node = find(prefix);
+            if (node == null) {
+                return EMPTY;
+            }
+            int start = Arrays.binarySearch(node.labels, 0, node.childCount, from);
+            if (start < 0) {
+                start = -start - 1;
+            }
+            int[] merged = EMPTY;
+            for (int i = start; i < node.childCount && node.labels[i] <= to; i++) {
+                merged = mergeTop(merged, node.children[i].top);
+            }
+            return Arrays.copyOf(merged, Math.min(size, merged.length));
+        }
+
+        /**
+         * prefix 하위 고객 중 조건을 만족하는 ID를 최근 등록 순으로 반환 (최대 scanLimit개까지만 확인)
+         */
+        int[] collect(String prefix, IntPredicate filter, int size, int scanLimit) {
+            Node node = find(prefix);
+            if (node == null) {
+                return EMPTY;
+            }
+            SortedIds matched = new SortedIds();
+            int scanned = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty() && scanned < scanLimit) {
+                Node current = stack.pop();
+                if (current.terminal != null) {
+                    for (int i = current.terminal.size() - 1; i >= 0 && scanned < scanLimit; i--, scanned++) {
+                        int id = current.terminal.get(i);
+                        if (filter.test(id)) {
+                            matched.add(id);
+                        }
+                    }
+                }
+                for (int i = 0; i < current.childCount; i++) {
+                    stack.push(current.children[i]);
+                }
+            }
+
+            int[] result = new int[Math.min(size, matched.size())];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = matched.get(matched.size() - 1 - i);
+            }
+            return result;
+        }
+
+        private Node find(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            return node;
+        }
+    }
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private int[] top = EMPTY;
+        private SortedIds terminal;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, 0, childCount, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(labels, 0, childCount, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == labels.length) {
+                int capacity = childCount + (childCount >> 1) + 1;
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            labels[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(labels, 0, childCount, c);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(labels, index + 1, labels, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        boolean isEmpty() {
+            return childCount == 0 && (terminal == null || terminal.size() == 0);
+        }
+
+        void offer(int id) {
+            if (top.length == MAX_LIMIT && id < top[MAX_LIMIT - 1]) {
+                return;
+            }
+            top = mergeTop(top, new int[]{id});
+        }
+
+        void recomputeTop() {
+            int[] merged = EMPTY;
+            if (terminal != null) {
+                int count = Math.min(MAX_LIMIT, terminal.size());
+                int[] latest = new int[count];
+                for (int i = 0; i < count; i++) {
+                    latest[i] = terminal.get(terminal.size() - 1 - i);
+                }
+                merged = latest;
+            }
+            for (int i = 0; i < childCount; i++) {
+                merged = mergeTop(merged, children[i].top);
+            }
+            top = merged;
+        }
+    }
+
+    /**
+     * 내림차순 ID 배열 두 개를 중복 없이 합쳐 MAX_LIMIT개까지 반환
+     */
+    private static int[] mergeTop(int[] a, int[] b) {
+        int[] merged = new int[Math.min(MAX_LIMIT, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (n < merged.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] > b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] > a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            merged[n++] = next;
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    private static boolean contains(int[] top, int id) {
+        for (int value : top) {
+            if (value == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.customer.service;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 고객 ID 목록 (ID는 대부분 증가 순으로 추가되므로 끝에 붙이는 경우가 많다)
+ */
+final class SortedIds {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    void add(int id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * afterId보다 큰 첫 ID의 위치
+     */
+    int indexAfter(long afterId) {
+        if (afterId < Integer.MIN_VALUE) {
+            return 0;
+        }
+        if (afterId >= Integer.MAX_VALUE) {
+            return size;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, (int) afterId + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터용 한국어 이름/연락처/학교 생성
+ * 성씨는 실제 인구 비율에 가깝게 가중치를 두고, 이름은 자주 쓰는 음절 두 개를 조합한다.
+ */
+final class KoreanNames {
+
+    private static final String[] SURNAMES = {
+        "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+        "한", "오", "서", "신", "권", "황", "안", "송", "전", "홍"
+    };
+    // 성씨별 인구 비율 (천분율, 상위 20개 성씨 기준)
+    private static final int[] SURNAME_WEIGHTS = {
+        215, 147, 84, 47, 44, 24, 21, 20, 19, 16,
+        15, 15, 15, 14, 14, 14, 14, 13, 11, 11
+    };
+    private static final int[] SURNAME_CUMULATIVE = cumulative(SURNAME_WEIGHTS);
+
+    private static final String[] FIRST_SYLLABLES = {
+        "민", "서", "지", "하", "도", "예", "수", "은", "현", "유",
+        "시", "주", "윤", "채", "승", "다", "태", "소", "준", "나"
+    };
+    private static final String[] SECOND_SYLLABLES = {
+        "준", "윤", "우", "원", "호", "아", "은", "연", "린", "진",
+        "빈", "율", "희", "현", "서", "민", "영", "혁", "솔", "이"
+    };
+
+    private static final String[] REGIONS = {
+        "서울", "부산", "대구", "인천", "광주", "대전", "울산", "수원", "성남", "고양"
+    };
+    private static final String[] SCHOOL_NAMES = {
+        "한빛", "새솔", "푸른", "동산", "중앙", "미래", "햇살", "보람", "가온", "누리"
+    };
+
+    private KoreanNames() {
+    }
+
+    /**
+     * 성씨 (가중치 적용)
+     */
+    static String surname(SplittableRandom random) {
+        int pick = random.nextInt(SURNAME_CUMULATIVE[SURNAME_CUMULATIVE.length - 1]);
+        for (int i = 0; i < SURNAME_CUMULATIVE.length; i++) {
+            if (pick < SURNAME_CUMULATIVE[i]) {
+                return SURNAMES[i];
+            }
+        }
+        return SURNAMES[0];
+    }
+
+    /**
+     * 이름 두 글자
+     */
+    static String givenName(SplittableRandom random) {
+        return FIRST_SYLLABLES[random.nextInt(FIRST_SYLLABLES.length)]
+                + SECOND_SYLLABLES[random.nextInt(SECOND_SYLLABLES.length)];
+    }
+
+    static String fullName(SplittableRandom random) {
+        return surname(random) + givenName(random);
+    }
+
+    /**
+     * 휴대폰 번호 (010-XXXX-XXXX)
+     * 일련번호를 10^8 범위에서 일대일로 섞으므로 1억 건까지 번호가 겹치지 않는다.
+     */
+    static String mobilePhone(long serial, long seed) {
+        long scrambled = Math.floorMod(serial * 7_919_993L + seed, 100_000_000L);
+        StringBuilder phone = new StringBuilder(13).append("010-");
+        appendDigits(phone, scrambled / 10_000, 4);
+        phone.append('-');
+        appendDigits(phone, scrambled % 10_000, 4);
+        return phone.toString();
+    }
+
+    /**
+     * 학년에 맞는 학교 이름 (예: 서울한빛초등학교)
+     */
+    static String school(SplittableRandom random, String grade) {
+        String level = grade.startsWith("중") ? "중학교" : "초등학교";
+        return REGIONS[random.nextInt(REGIONS.length)] + SCHOOL_NAMES[random.nextInt(SCHOOL_NAMES.length)] + level;
+    }
+
+    static String address(SplittableRandom random) {
+        return REGIONS[random.nextInt(REGIONS.length)] + " " + SCHOOL_NAMES[random.nextInt(SCHOOL_NAMES.length)] + "로 "
+                + (1 + random.nextInt(300)) + "번길 " + (1 + random.nextInt(50));
+    }
+
+    private static void appendDigits(StringBuilder target, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            target.append('0');
+        }
+        target.append(digits);
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] result = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            result[i] = sum;
+        }
+        return result;
+    }
+}
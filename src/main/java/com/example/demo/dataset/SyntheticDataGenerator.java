@@ -0,0 +1,397 @@
+package com.example.demo.dataset;
+
+import com.example.demo.customer.Customer;
+import com.example.demo.login.LoginUserAuthority;
+import com.example.demo.order.Order;
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.product.service.ProductEntitlement;
+import com.example.demo.user.User;
+import com.example.demo.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하/벤치마크용 합성 데이터 생성기 (dataset.generate.enabled=true일 때만 등록)
+ * 기동 시 빈 테이블에 교사, 상품, 고객, 주문을 배치 JDBC로 적재한다.
+ * 같은 dataset.seed와 설정이면 항상 같은 데이터가 만들어지고, 테이블마다 난수열을 따로 써서
+ * 주문 수만 바꿔도 교사/상품/고객은 그대로 유지된다.
+ * ApplicationRunner는 ApplicationReadyEvent보다 먼저 실행되므로 검색 색인, 상품 카탈로그, 주문 집계는
+ * 기동 완료 시 적재된 데이터로 만들어진다.
+ */
+@Component
+@ConditionalOnProperty(name = "dataset.generate.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] GRADES = {"초1", "초2", "초3", "초4", "초5", "초6", "중1", "중2", "중3"};
+    private static final String[] MANAGEMENT_TYPES = {"관리", "비관리"};
+    private static final String[] PAD_TYPES = {"기본패드", "프리미엄패드", "학습패드", "스마트패드"};
+    private static final String[] MODEL_SERIES = {"라이트", "스탠다드", "플러스", "프로"};
+    // 제한 상품에 붙이는 허용 유형 (CntrTyCd 또는 TeacType 이름)
+    private static final String[] ALLOWED_TYPES = {"CHRG", "CNSTN", "PRLSN", "SPRT", "UNTY", "T", "M", "C"};
+
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+    // 주문 상태 분포 (PENDING, CONFIRMED, PROCESSING, COMPLETED, CANCELLED 순, 백분율)
+    private static final int[] STATUS_WEIGHTS = {10, 10, 10, 60, 10};
+
+    private static final long TEACHER_SALT = 0x7EAC_4E25L;
+    private static final long PRODUCT_SALT = 0x960D_0C75L;
+    private static final long CUSTOMER_SALT = 0xC057_0E25L;
+    private static final long ORDER_SALT = 0x0D0E_2500L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+
+    private final long seed;
+    private final int teacherCount;
+    private final long customerCount;
+    private final long orderCount;
+    private final double teacherSkew;
+    private final int days;
+    private final LocalDate until;
+    private final int batchSize;
+    private final String teacherPassword;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  PasswordEncoder passwordEncoder, UserRepository userRepository,
+                                  ProductRepository productRepository,
+                                  @Value("${dataset.seed:42}") long seed,
+                                  @Value("${dataset.teachers:2000}") int teacherCount,
+                                  @Value("${dataset.customers:1000000}") long customerCount,
+                                  @Value("${dataset.orders:3000000}") long orderCount,
+                                  @Value("${dataset.teacher-skew:1.1}") double teacherSkew,
+                                  @Value("${dataset.days:365}") int days,
+                                  @Value("${dataset.until:}") String until,
+                                  @Value("${dataset.batch-size:5000}") int batchSize,
+                                  @Value("${dataset.teacher-password:demo1234}") String teacherPassword) {
+        if (teacherCount <= 0 || customerCount <= 0 || orderCount < 0 || days <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("dataset.teachers/customers/days/batch-size는 1 이상, dataset.orders는 0 이상이어야 합니다.");
+        }
+        if (customerCount > 100_000_000L) {
+            throw new IllegalArgumentException("dataset.customers는 1억 명을 넘을 수 없습니다. (연락처 중복 방지)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.seed = seed;
+        this.teacherCount = teacherCount;
+        this.customerCount = customerCount;
+        this.orderCount = orderCount;
+        this.teacherSkew = teacherSkew;
+        this.days = days;
+        this.until = until == null || until.isBlank() ? LocalDate.now() : LocalDate.parse(until);
+        this.batchSize = batchSize;
+        this.teacherPassword = teacherPassword;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM user_table) + (SELECT COUNT(*) FROM customer) + (SELECT COUNT(*) FROM orders)",
+                Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("합성 데이터는 교사/고객/주문 테이블이 비어 있을 때만 생성할 수 있습니다.");
+        }
+
+        long started = System.nanoTime();
+        insertTeachers();
+        insertProducts();
+        long firstCustomerId = insertCustomers();
+        insertOrders(firstCustomerId);
+
+        log.info("합성 데이터 생성 완료 (seed {}): 교사 {}명, 고객 {}명, 주문 {}건, {}ms",
+                seed, teacherCount, customerCount, orderCount, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 교사 등록 (모든 권한의 교사 유형/부서 코드 조합을 돌아가며 배정, 부서 없는 센터장 포함)
+     */
+    private void insertTeachers() {
+        List<String[]> profiles = teacherProfiles();
+        String passwordHash = passwordEncoder.encode(teacherPassword);
+        SplittableRandom random = new SplittableRandom(seed ^ TEACHER_SALT);
+
+        insertRows("INSERT INTO user_table (emp_no, emp_name, dept_code, birth_date, teac_type, sc_type) VALUES (?, ?, ?, ?, ?, ?)",
+                teacherCount, (ps, index) -> {
+                    String[] profile = profiles.get((int) (index % profiles.size()));
+                    ps.setString(1, teacherEmpNo(index));
+                    ps.setString(2, KoreanNames.fullName(random));
+                    ps.setString(3, profile[1]);
+                    ps.setString(4, passwordHash);
+                    ps.setString(5, profile[0]);
+                    ps.setString(6, random.nextInt(3) == 0 ? User.ScType.M.name() : User.ScType.E.name());
+                });
+    }
+
+    private static List<String[]> teacherProfiles() {
+        Map<String, String[]> profiles = new LinkedHashMap<>();
+        for (LoginUserAuthority authority : LoginUserAuthority.values()) {
+            for (String deptCode : authority.getDeptCodes()) {
+                String teacType = authority.getTeacType().name();
+                profiles.putIfAbsent(teacType + ":" + deptCode, new String[] {teacType, deptCode});
+            }
+        }
+        profiles.putIfAbsent("C:", new String[] {User.TeacType.C.name(), null});
+        return new ArrayList<>(profiles.values());
+    }
+
+    /**
+     * 상품 카탈로그 등록 (학년 x 관리유형 x 패드종류마다 1~3개 모델, 약 30%는 권한 제한, 약 5%는 비활성)
+     */
+    private void insertProducts() {
+        SplittableRandom random = new SplittableRandom(seed ^ PRODUCT_SALT);
+        List<Object[]> rows = new ArrayList<>();
+        for (String grade : GRADES) {
+            for (String managementType : MANAGEMENT_TYPES) {
+                for (int pad = 0; pad < PAD_TYPES.length; pad++) {
+                    int models = 1 + random.nextInt(3);
+                    for (int model = 0; model < models; model++) {
+                        boolean restricted = random.nextInt(10) < 3;
+                        String allowedTypes = null;
+                        if (restricted) {
+                            String first = ALLOWED_TYPES[random.nextInt(ALLOWED_TYPES.length)];
+                            String second = ALLOWED_TYPES[random.nextInt(ALLOWED_TYPES.length)];
+                            allowedTypes = first.equals(second) || random.nextBoolean() ? first : first + "," + second;
+                        }
+                        rows.add(new Object[] {
+                            grade, managementType, PAD_TYPES[pad],
+                            MODEL_SERIES[model] + " " + (char) ('A' + pad) + (model + 1) + " (" + grade + ")",
+                            BigDecimal.valueOf(20_000L + 1_000L * random.nextInt(41)),
+                            random.nextInt(20) != 0, restricted, allowedTypes
+                        });
+                    }
+                }
+            }
+        }
+
+        long firstId = reserveIds("product_seq", rows.size());
+        insertRows("INSERT INTO product (id, grade, management_type, pad_type, model_name, monthly_fee, active, "
+                        + "restricted_access, allowed_teacher_types) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows.size(), (ps, index) -> {
+                    Object[] row = rows.get((int) index);
+                    ps.setLong(1, firstId + index);
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 2, row[i]);
+                    }
+                });
+    }
+
+    /**
+     * 고객 등록 (연락처는 일련번호로 만들어 중복 확인 키가 겹치지 않음)
+     */
+    private long insertCustomers() {
+        SplittableRandom random = new SplittableRandom(seed ^ CUSTOMER_SALT);
+        long firstId = reserveIds("customer_seq", customerCount);
+
+        insertRows("INSERT INTO customer (id, parent_name, parent_phone, parent_email, address, child_name, child_grade, "
+                        + "school, dedup_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                customerCount, (ps, index) -> {
+                    String surname = KoreanNames.surname(random);
+                    String parentName = surname + KoreanNames.givenName(random);
+                    String parentPhone = KoreanNames.mobilePhone(index, seed);
+                    String childSurname = random.nextInt(10) < 7 ? surname : KoreanNames.surname(random);
+                    String childGrade = GRADES[random.nextInt(GRADES.length)];
+                    Timestamp createdAt = Timestamp.valueOf(randomTime(random));
+
+                    ps.setLong(1, firstId + index);
+                    ps.setString(2, parentName);
+                    ps.setString(3, parentPhone);
+                    ps.setString(4, random.nextInt(10) < 3 ? "parent" + (firstId + index) + "@example.com" : null);
+                    ps.setString(5, random.nextBoolean() ? KoreanNames.address(random) : null);
+                    ps.setString(6, childSurname + KoreanNames.givenName(random));
+                    ps.setString(7, childGrade);
+                    ps.setString(8, random.nextInt(10) < 8 ? KoreanNames.school(random, childGrade) : null);
+                    ps.setString(9, Customer.dedupKeyOf(parentName, parentPhone));
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                });
+        return firstId;
+    }
+
+    /**
+     * 주문 등록
+     * 교사는 Zipf 분포(dataset.teacher-skew)로 골라 소수 교사에게 주문이 몰리게 하고,
+     * 상품은 그 교사가 접근할 수 있는 활성 상품 중에서 고른다.
+     */
+    private void insertOrders(long firstCustomerId) {
+        List<User> teachers = userRepository.findAll(Sort.by("empNo"));
+        List<Product> products = productRepository.findByActiveTrue();
+        Map<Long, BigDecimal> feeByProductId = new HashMap<>();
+        for (Product product : products) {
+            feeByProductId.put(product.getId(), product.getMonthlyFee());
+        }
+
+        SplittableRandom random = new SplittableRandom(seed ^ ORDER_SALT);
+        String[] empNos = new String[teachers.size()];
+        long[][] productIdsByTeacher = new long[teachers.size()][];
+        Map<Long, long[]> productIdsByKey = new HashMap<>();
+        for (int i = 0; i < teachers.size(); i++) {
+            User teacher = teachers.get(i);
+            empNos[i] = teacher.getEmpNo();
+            productIdsByTeacher[i] = productIdsByKey.computeIfAbsent(ProductEntitlement.keyOf(teacher),
+                    key -> accessibleProductIds(products, key));
+        }
+        double[] cumulativeWeights = teacherWeights(teachers.size(), random);
+        long firstId = reserveIds("orders_seq", orderCount);
+
+        insertRows("INSERT INTO orders (id, order_number, teacher_emp_no, customer_id, product_id, quantity, total_amount, "
+                        + "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                orderCount, (ps, index) -> {
+                    int teacher = pickTeacher(cumulativeWeights, random);
+                    long[] productIds = productIdsByTeacher[teacher];
+                    long productId = productIds[random.nextInt(productIds.length)];
+                    int quantity = pickQuantity(random);
+                    LocalDateTime createdAt = randomTime(random);
+                    Order.OrderStatus status = pickStatus(random);
+
+                    ps.setLong(1, firstId + index);
+                    ps.setString(2, orderNumber(firstId + index));
+                    ps.setString(3, empNos[teacher]);
+                    ps.setLong(4, firstCustomerId + random.nextLong(customerCount));
+                    ps.setLong(5, productId);
+                    ps.setInt(6, quantity);
+                    ps.setBigDecimal(7, feeByProductId.get(productId).multiply(BigDecimal.valueOf(quantity)));
+                    ps.setString(8, status.name());
+                    ps.setTimestamp(9, Timestamp.valueOf(createdAt));
+                    ps.setTimestamp(10, Timestamp.valueOf(status == Order.OrderStatus.PENDING
+                            ? createdAt : createdAt.plusHours(1 + random.nextInt(72))));
+                });
+    }
+
+    private static long[] accessibleProductIds(List<Product> products, long teacherKey) {
+        return products.stream()
+                .filter(product -> ProductEntitlement.isAccessible(ProductEntitlement.compile(product), teacherKey))
+                .mapToLong(Product::getId)
+                .toArray();
+    }
+
+    /**
+     * 교사별 누적 가중치 (순위 r의 가중치 1/r^skew, 순위는 시드로 섞어 부서와 무관하게 배정)
+     */
+    private double[] teacherWeights(int count, SplittableRandom random) {
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = i + 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+
+        double[] cumulative = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += 1.0 / Math.pow(ranks[i], teacherSkew);
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static int pickTeacher(double[] cumulativeWeights, SplittableRandom random) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+    }
+
+    private static int pickQuantity(SplittableRandom random) {
+        int pick = random.nextInt(100);
+        return pick < 85 ? 1 : pick < 97 ? 2 : 3;
+    }
+
+    private static Order.OrderStatus pickStatus(SplittableRandom random) {
+        int pick = random.nextInt(100);
+        for (int i = 0; i < STATUS_WEIGHTS.length; i++) {
+            pick -= STATUS_WEIGHTS[i];
+            if (pick < 0) {
+                return STATUSES[i];
+            }
+        }
+        return Order.OrderStatus.COMPLETED;
+    }
+
+    /**
+     * dataset.until 이전 dataset.days일 사이의 임의 시각
+     */
+    private LocalDateTime randomTime(SplittableRandom random) {
+        return until.atStartOfDay().minusSeconds(1 + random.nextLong(days * 86_400L));
+    }
+
+    private static String teacherEmpNo(long index) {
+        return String.format("S%06d", index + 1);
+    }
+
+    /**
+     * 합성 주문번호 (SYN + ID 12자리, 실제 발급 형식인 ORD와 겹치지 않음)
+     */
+    private static String orderNumber(long id) {
+        return String.format("SYN%012d", id);
+    }
+
+    /**
+     * 시퀀스에서 count개의 ID를 한 번에 확보하고 다음 값을 그 뒤로 옮긴다 (pooled-lo 할당과 겹치지 않음)
+     */
+    private long reserveIds(String sequence, long count) {
+        Long first = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (first + count));
+        return first;
+    }
+
+    /**
+     * batch-size 행씩 한 트랜잭션으로 배치 INSERT
+     */
+    private void insertRows(String sql, long count, RowWriter writer) {
+        for (long start = 0; start < count; start += batchSize) {
+            long offset = start;
+            int size = (int) Math.min(batchSize, count - start);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    writer.write(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            }));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long index) throws SQLException;
+    }
+}
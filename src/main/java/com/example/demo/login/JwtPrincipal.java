@@ -0,0 +1,34 @@
+package com.example.demo.login;
+
+import java.time.Instant;
+
+/**
+ * 검증된 JWT 토큰 정보 (사번, 권한, 만료 시각)
+ */
+public final class JwtPrincipal {
+    private final String empNo;
+    private final LoginUserAuthority authority;
+    private final Instant expiresAt;
+
+    public JwtPrincipal(String empNo, LoginUserAuthority authority, Instant expiresAt) {
+        this.empNo = empNo;
+        this.authority = authority;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getEmpNo() {
+        return empNo;
+    }
+
+    public LoginUserAuthority getAuthority() {
+        return authority;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
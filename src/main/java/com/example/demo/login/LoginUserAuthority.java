@@ -37,6 +37,17 @@ public enum LoginUserAuthority implements GrantedAuthority {
         return this.name();
     }
 
+    public TeacType getTeacType() {
+        return teacType;
+    }
+
+    /**
+     * 이 권한에 해당하는 부서 코드 목록 (복사본)
+     */
+    public String[] getDeptCodes() {
+        return deptCodes.clone();
+    }
+
     public static LoginUserAuthority getAuthority(TeacType teacType, String deptCode) {
         for (LoginUserAuthority authority : LoginUserAuthority.values()) {
             if (authority.teacType.equals(teacType)) {
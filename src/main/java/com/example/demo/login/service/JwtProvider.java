@@ -1,14 +1,35 @@
 package com.example.demo.login.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.login.JwtPrincipal;
 import com.example.demo.login.LoginUserAuthority;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtProvider {
@@ -16,6 +37,56 @@ public class JwtProvider {
     private String jwtSecret;
     @Value("${jwt.expiration}")
     private long jwtExpiration;
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    // 기동 시 한 번만 생성 (JwtParser는 불변이며 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, JwtPrincipal> verifiedTokens;
+    // 검증 결과별 지연 (cached: 캐시 적중, verified: 서명 검증, invalid: 검증 실패)
+    private Timer cachedVerifyTimer;
+    private Timer signedVerifyTimer;
+    private Timer invalidVerifyTimer;
+
+    public JwtProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+   @PostConstruct
+   void init() {
+        // 기존 토큰과 호환되도록 secret은 Base64로 디코딩하여 사용
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new Expiry<String, JwtPrincipal>() {
+                @Override
+                public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
+        this.cachedVerifyTimer = verifyTimer("cached");
+        this.signedVerifyTimer = verifyTimer("verified");
+        this.invalidVerifyTimer = verifyTimer("invalid");
+   }
 
    public String generateToken(String empNo, LoginUserAuthority authority) {
         Date now = new Date();
@@ -26,25 +97,77 @@ public class JwtProvider {
             .claim("auth", authority.toString())
             .issuedAt(now)
             .expiration(expiration)
-            .signWith(SignatureAlgorithm.HS256, jwtSecret)
+            .signWith(signingKey, Jwts.SIG.HS256)
             .compact();
    }
 
+   /**
+    * 토큰을 한 번만 파싱/검증하여 사번, 권한, 만료 시각 반환
+    * 검증된 토큰은 만료 시각까지 다이제스트 기준으로 캐시하여 서명 검증을 생략한다.
+    */
+   public JwtPrincipal verify(String token) {
+        long startedAt = System.nanoTime();
+        Timer timer = invalidVerifyTimer;
+        try {
+            String digest = digest(token);
+            JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+            if (cached != null) {
+                if (!cached.isExpired(Instant.now())) {
+                    timer = cachedVerifyTimer;
+                    return cached;
+                }
+                verifiedTokens.invalidate(digest);
+            }
+
+            JwtPrincipal principal = parseAndVerify(token);
+            verifiedTokens.put(digest, principal);
+            timer = signedVerifyTimer;
+            return principal;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+   }
+
+   private JwtPrincipal parseAndVerify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            throw new IllegalArgumentException("만료 시각이 없는 토큰입니다.");
+        }
+
+        JwtPrincipal principal = new JwtPrincipal(
+            claims.getSubject(),
+            LoginUserAuthority.valueOf(claims.get("auth", String.class)),
+            expiration.toInstant());
+        if (principal.isExpired(Instant.now())) {
+            throw new ExpiredJwtException(null, claims, "토큰이 만료되었습니다.");
+        }
+        return principal;
+   }
+
+   private Timer verifyTimer(String result) {
+        return Timer.builder("app.jwt.verify")
+            .description("JWT verification latency")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+   }
+
    public String getEmpNoFromToken(String token) {
-        return Jwts.parser()
-            .setSigningKey(jwtSecret)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
+        return verify(token).getEmpNo();
    }
 
    public LoginUserAuthority getAuthorityFromToken(String token) {
-    return LoginUserAuthority.valueOf(Jwts.parser()
-        .setSigningKey(jwtSecret)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .get("auth", String.class));
+    return verify(token).getAuthority();
+   }
+
+   private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
    }
 }
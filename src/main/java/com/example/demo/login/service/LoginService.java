@@ -6,7 +6,10 @@ import org.springframework.stereotype.Service;
 import com.example.demo.user.User;
 import com.example.demo.user.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("app.service")
 public class LoginService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -17,15 +17,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_teacher_emp_no_created_at", columnList = "teacher_emp_no, created_at")
+})
 public class Order {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_gen")
+    @SequenceGenerator(name = "orders_seq_gen", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 50)
-    private String orderNumber;     // 주문번호
+    private String orderNumber;     // 주문번호 (OrderNumberGenerator에서 발급)
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_emp_no", nullable = false)
@@ -59,9 +62,6 @@ public class Order {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (orderNumber == null) {
-            generateOrderNumber();
-        }
     }
     
     @PreUpdate
@@ -69,14 +69,6 @@ public class Order {
         updatedAt = LocalDateTime.now();
     }
     
-    private void generateOrderNumber() {
-        // 주문번호 생성 로직: ORD + 현재시간(yyyyMMddHHmmss) + 랜덤 3자리
-        String timestamp = java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
-                .format(LocalDateTime.now());
-        String randomSuffix = String.format("%03d", (int)(Math.random() * 1000));
-        this.orderNumber = "ORD" + timestamp + randomSuffix;
-    }
-    
     public enum OrderStatus {
         PENDING,    // 대기중
         CONFIRMED,  // 확인됨
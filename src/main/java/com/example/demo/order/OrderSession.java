@@ -1,5 +1,6 @@
 package com.example.demo.order;
 
+import com.example.demo.customer.Customer;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "order_session")
+@Table(name = "order_session", indexes = {
+    @Index(name = "idx_order_session_teacher_emp_no", columnList = "teacherEmpNo"),
+    @Index(name = "idx_order_session_expires_at", columnList = "expiresAt")
+})
 public class OrderSession {
     
     @Id
@@ -49,9 +53,13 @@ public class OrderSession {
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        // 세션 만료 시간: 생성 후 2시간
-        expiresAt = LocalDateTime.now().plusHours(2);
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        // 세션 만료 시간: 지정되지 않았으면 생성 후 2시간
+        if (expiresAt == null) {
+            expiresAt = createdAt.plusHours(2);
+        }
     }
     
     public boolean isExpired() {
@@ -86,5 +94,20 @@ public class OrderSession {
         
         @Column(length = 100)
         private String school;
+        
+        /**
+         * 입력한 고객 정보로 새 고객 엔티티 생성 (저장 전)
+         */
+        public Customer toCustomer() {
+            Customer customer = new Customer();
+            customer.setParentName(parentName);
+            customer.setParentPhone(parentPhone);
+            customer.setParentEmail(parentEmail);
+            customer.setAddress(address);
+            customer.setChildName(childName);
+            customer.setChildGrade(childGrade);
+            customer.setSchool(school);
+            return customer;
+        }
     }
 }
\ No newline at end of file
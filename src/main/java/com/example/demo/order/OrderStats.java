@@ -0,0 +1,57 @@
+package com.example.demo.order;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 교사별 주문 집계 (전체, 상태별, 월별 주문 수와 총액)
+ * 주문 생성/상태 변경 트랜잭션 안에서 증감하고, OrderStatsReconciler가 주기적으로 주문 테이블 기준으로 다시 계산한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "order_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_stats_key", columnNames = {"teacherEmpNo", "dimension", "bucket"})
+})
+public class OrderStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_stats_seq_gen")
+    @SequenceGenerator(name = "order_stats_seq_gen", sequenceName = "order_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String teacherEmpNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Dimension dimension;
+
+    @Column(nullable = false, length = 20)
+    private String bucket;          // TOTAL: "", STATUS: 주문 상태, MONTH: yyyy-MM
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    public OrderStats(String teacherEmpNo, Dimension dimension, String bucket, long orderCount, BigDecimal totalAmount) {
+        this.teacherEmpNo = teacherEmpNo;
+        this.dimension = dimension;
+        this.bucket = bucket;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public enum Dimension {
+        TOTAL,      // 전체
+        STATUS,     // 주문 상태별
+        MONTH       // 주문 월별
+    }
+}
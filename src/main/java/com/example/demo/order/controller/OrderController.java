@@ -1,14 +1,16 @@
 package com.example.demo.order.controller;
 
+import com.example.demo.order.Order;
 import com.example.demo.order.OrderSession;
 import com.example.demo.order.dto.CustomerInfoDto;
 import com.example.demo.order.dto.ModelSelectionDto;
+import com.example.demo.order.dto.OrderListPage;
 import com.example.demo.order.service.OrderService;
 import com.example.demo.product.Product;
 import com.example.demo.product.service.ProductService;
+import com.example.demo.user.CurrentTeacher;
 import com.example.demo.user.User;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -17,6 +19,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,41 +28,79 @@ public class OrderController {
     
     private final OrderService orderService;
     private final ProductService productService;
-    private final com.example.demo.user.repository.UserRepository userRepository;
     
-    public OrderController(OrderService orderService, ProductService productService, 
-                          com.example.demo.user.repository.UserRepository userRepository) {
+    public OrderController(OrderService orderService, ProductService productService) {
         this.orderService = orderService;
         this.productService = productService;
-        this.userRepository = userRepository;
     }
     
     /**
      * 주문 목록 페이지 (메인 페이지)
      */
     @GetMapping("/orders")
-    public String orderList(Model model) {
-        User currentTeacher = getCurrentTeacher();
+    public String orderList(@CurrentTeacher User currentTeacher,
+                            @RequestParam(value = "beforeCreatedAt", required = false)
+                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+                            @RequestParam(value = "beforeId", required = false) Long beforeId,
+                            @RequestParam(value = "size", defaultValue = "20") int size,
+                            Model model) {
         if (currentTeacher == null) {
             return "redirect:/login";
         }
         
-        // 교사의 주문 목록 조회
-        List<com.example.demo.order.Order> orders = orderService.getOrdersByTeacher(currentTeacher.getEmpNo());
+        // 교사의 주문 목록 한 페이지 조회
+        OrderListPage page = orderService.getOrderListPage(currentTeacher.getEmpNo(), beforeCreatedAt, beforeId, size);
         
-        model.addAttribute("orders", orders);
+        model.addAttribute("orders", page.getOrders());
+        model.addAttribute("page", page);
+        model.addAttribute("firstPage", beforeId == null);
+        model.addAttribute("stats", orderService.getOrderStats(currentTeacher.getEmpNo()));
         model.addAttribute("teacher", currentTeacher);
         
         return "order/list";
     }
     
+    /**
+     * 주문 상태 변경 (본인 주문만, 주문 집계도 함께 갱신)
+     */
+    @PostMapping("/orders/{orderId}/status")
+    public String changeOrderStatus(@CurrentTeacher User currentTeacher,
+                                    @PathVariable Long orderId,
+                                    @RequestParam("status") Order.OrderStatus status,
+                                    RedirectAttributes redirectAttributes) {
+        if (currentTeacher == null) {
+            return "redirect:/login";
+        }
+        
+        try {
+            Order order = orderService.changeOrderStatus(orderId, currentTeacher, status);
+            redirectAttributes.addFlashAttribute("success", "주문 상태가 변경되었습니다. (주문번호: " + order.getOrderNumber() + ")");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", "주문 상태 변경 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return "redirect:/orders";
+    }
+    
+    /**
+     * 대시보드 (주문 집계 표시)
+     */
+    @GetMapping("/dashboard")
+    public String dashboard(@CurrentTeacher User currentTeacher, Model model) {
+        if (currentTeacher == null) {
+            return "redirect:/login";
+        }
+        
+        model.addAttribute("stats", orderService.getOrderStats(currentTeacher.getEmpNo()));
+        model.addAttribute("teacher", currentTeacher);
+        
+        return "dashboard";
+    }
+    
     /**
      * 1단계: 고객 등록 페이지
      */
     @GetMapping("/order/step1")
-    public String step1(Model model, HttpSession httpSession) {
-        // 현재 로그인한 교사 정보 가져오기
-        User currentTeacher = getCurrentTeacher();
+    public String step1(@CurrentTeacher User currentTeacher, Model model, HttpSession httpSession) {
         if (currentTeacher == null) {
             return "redirect:/login";
         }
@@ -94,14 +135,13 @@ public class OrderController {
      * 1단계: 고객 정보 저장
      */
     @PostMapping("/order/step1")
-    public String saveStep1(@Valid @ModelAttribute("customerInfo") CustomerInfoDto customerInfoDto,
+    public String saveStep1(@CurrentTeacher User currentTeacher,
+                           @Valid @ModelAttribute("customerInfo") CustomerInfoDto customerInfoDto,
                            BindingResult bindingResult,
                            HttpSession httpSession,
                            RedirectAttributes redirectAttributes,
                            Model model) {
         
-        // 현재 로그인한 교사 정보 가져오기
-        User currentTeacher = getCurrentTeacher();
         if (currentTeacher == null) {
             return "redirect:/login";
         }
@@ -147,9 +187,7 @@ public class OrderController {
      * 2단계: 모델 선택 페이지
      */
     @GetMapping("/order/step2")
-    public String step2(Model model, HttpSession httpSession, RedirectAttributes redirectAttributes) {
-        // 현재 로그인한 교사 정보 가져오기
-        User currentTeacher = getCurrentTeacher();
+    public String step2(@CurrentTeacher User currentTeacher, Model model, HttpSession httpSession, RedirectAttributes redirectAttributes) {
         if (currentTeacher == null) {
             return "redirect:/login";
         }
@@ -209,14 +247,13 @@ public class OrderController {
      * 2단계: 모델 선택 정보 저장
      */
     @PostMapping("/order/step2")
-    public String saveStep2(@Valid @ModelAttribute("modelSelection") ModelSelectionDto modelSelectionDto,
+    public String saveStep2(@CurrentTeacher User currentTeacher,
+                           @Valid @ModelAttribute("modelSelection") ModelSelectionDto modelSelectionDto,
                            BindingResult bindingResult,
                            HttpSession httpSession,
                            RedirectAttributes redirectAttributes,
                            Model model) {
         
-        // 현재 로그인한 교사 정보 가져오기
-        User currentTeacher = getCurrentTeacher();
         if (currentTeacher == null) {
             return "redirect:/login";
         }
@@ -276,12 +313,85 @@ public class OrderController {
         }
     }
     
+    /**
+     * 3단계: 주문 확인 페이지 (세션에 저장된 고객/모델 정보와 총액 표시)
+     */
+    @GetMapping("/order/step3")
+    public String step3(@CurrentTeacher User currentTeacher, Model model, HttpSession httpSession, RedirectAttributes redirectAttributes) {
+        if (currentTeacher == null) {
+            return "redirect:/login";
+        }
+        
+        // 세션 ID 확인
+        String sessionId = (String) httpSession.getAttribute("orderSessionId");
+        if (sessionId == null) {
+            redirectAttributes.addFlashAttribute("error", "세션이 만료되었습니다. 1단계부터 다시 시작해주세요.");
+            return "redirect:/order/step1";
+        }
+        
+        // 주문 세션 조회
+        Optional<OrderSession> orderSessionOpt = orderService.getOrderSession(sessionId, currentTeacher.getEmpNo());
+        if (orderSessionOpt.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "주문 세션을 찾을 수 없습니다. 1단계부터 다시 시작해주세요.");
+            return "redirect:/order/step1";
+        }
+        
+        OrderSession orderSession = orderSessionOpt.get();
+        if (orderSession.getCustomerInfo() == null) {
+            redirectAttributes.addFlashAttribute("error", "고객 정보를 먼저 입력해주세요.");
+            return "redirect:/order/step1";
+        }
+        
+        // 2단계 완료 여부 확인
+        Optional<Product> productOpt = productService.findById(orderSession.getSelectedProductId());
+        if (productOpt.isEmpty() || orderSession.getQuantity() == null) {
+            redirectAttributes.addFlashAttribute("error", "모델을 먼저 선택해주세요.");
+            return "redirect:/order/step2";
+        }
+        
+        model.addAttribute("teacher", currentTeacher);
+        model.addAttribute("customerInfo", orderSession.getCustomerInfo());
+        model.addAttribute("orderSession", orderSession);
+        model.addAttribute("product", productOpt.get());
+        model.addAttribute("totalAmount", productService.calculateTotalAmount(productOpt.get().getId(), orderSession.getQuantity()));
+        
+        return "order/step3";
+    }
+    
+    /**
+     * 3단계: 주문 확정 (세션에 저장된 고객/모델 정보로 주문 생성)
+     */
+    @PostMapping("/order/step3")
+    public String confirmOrder(@CurrentTeacher User currentTeacher, HttpSession httpSession, RedirectAttributes redirectAttributes) {
+        if (currentTeacher == null) {
+            return "redirect:/login";
+        }
+        
+        // 세션 ID 확인
+        String sessionId = (String) httpSession.getAttribute("orderSessionId");
+        if (sessionId == null) {
+            redirectAttributes.addFlashAttribute("error", "세션이 만료되었습니다. 1단계부터 다시 시작해주세요.");
+            return "redirect:/order/step1";
+        }
+        
+        try {
+            Order order = orderService.createOrder(sessionId, currentTeacher.getEmpNo(), currentTeacher);
+            httpSession.removeAttribute("orderSessionId");
+            
+            redirectAttributes.addFlashAttribute("success", "주문이 등록되었습니다. (주문번호: " + order.getOrderNumber() + ")");
+            return "redirect:/orders";
+            
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "주문 생성 중 오류가 발생했습니다: " + e.getMessage());
+            return "redirect:/order/step2";
+        }
+    }
+    
     /**
      * 주문 취소 (세션 삭제)
      */
     @PostMapping("/order/cancel")
-    public String cancelOrder(HttpSession httpSession, RedirectAttributes redirectAttributes) {
-        User currentTeacher = getCurrentTeacher();
+    public String cancelOrder(@CurrentTeacher User currentTeacher, HttpSession httpSession, RedirectAttributes redirectAttributes) {
         if (currentTeacher != null) {
             String sessionId = (String) httpSession.getAttribute("orderSessionId");
             if (sessionId != null) {
@@ -293,16 +403,4 @@ public class OrderController {
         redirectAttributes.addFlashAttribute("info", "주문이 취소되었습니다.");
         return "redirect:/";
     }
-    
-    /**
-     * 현재 로그인한 교사 정보 가져오기
-     */
-    private User getCurrentTeacher() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof String) {
-            String empNo = (String) authentication.getPrincipal();
-            return userRepository.findById(empNo).orElse(null);
-        }
-        return null;
-    }
 }
\ No newline at end of file
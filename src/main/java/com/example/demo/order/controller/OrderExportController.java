@@ -0,0 +1,97 @@
+package com.example.demo.order.controller;
+
+import com.example.demo.order.service.OrderExportFormat;
+import com.example.demo.order.service.OrderExportService;
+import com.example.demo.user.CurrentTeacher;
+import com.example.demo.user.User;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+@Controller
+public class OrderExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final OrderExportService orderExportService;
+    // 내보내기는 다운로드가 끝날 때까지 트랜잭션(연결)을 잡고 있으므로 동시 실행 수를 제한해 풀이 고갈되지 않게 한다
+    private final Semaphore exportPermits;
+
+    public OrderExportController(OrderExportService orderExportService,
+                                 @Value("${order.export.max-concurrent:2}") int maxConcurrentExports) {
+        if (maxConcurrentExports < 1) {
+            throw new IllegalArgumentException("order.export.max-concurrent는 1 이상이어야 합니다: " + maxConcurrentExports);
+        }
+        this.orderExportService = orderExportService;
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * 주문 내보내기 다운로드 (기간은 from~to 날짜 포함, format=csv|xlsx, gzip=true면 .gz로 압축)
+     * 응답 출력 스트림에 바로 쓰므로 파일 전체를 메모리에 만들지 않는다.
+     * 동시 내보내기가 order.export.max-concurrent개를 넘으면 기다리지 않고 429 (Retry-After)로 응답한다.
+     */
+    @GetMapping("/orders/export")
+    public void exportOrders(@CurrentTeacher User currentTeacher,
+                             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                             @RequestParam(value = "format", defaultValue = "csv") String format,
+                             @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                             HttpServletResponse response) throws IOException {
+        if (currentTeacher == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        OrderExportFormat exportFormat;
+        try {
+            exportFormat = OrderExportFormat.of(format);
+            orderExportService.validateRange(from, to);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        if (!exportPermits.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        try {
+            writeExport(currentTeacher, from, to, exportFormat, gzip, response);
+        } finally {
+            exportPermits.release();
+        }
+    }
+
+    private void writeExport(User currentTeacher, LocalDate from, LocalDate to, OrderExportFormat exportFormat,
+                             boolean gzip, HttpServletResponse response) throws IOException {
+        String filename = "orders_" + from + "_" + to + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream output = response.getOutputStream();
+        if (gzip) {
+            GZIPOutputStream gzipOutput = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+            orderExportService.export(currentTeacher.getEmpNo(), from, to, exportFormat, gzipOutput);
+            gzipOutput.finish();
+        } else {
+            orderExportService.export(currentTeacher.getEmpNo(), from, to, exportFormat, output);
+        }
+        output.flush();
+    }
+}
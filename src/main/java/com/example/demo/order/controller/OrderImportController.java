@@ -0,0 +1,54 @@
+package com.example.demo.order.controller;
+
+import com.example.demo.order.dto.OrderImportResult;
+import com.example.demo.order.service.OrderImportService;
+import com.example.demo.user.CurrentTeacher;
+import com.example.demo.user.User;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+@RestController
+public class OrderImportController {
+
+    private final OrderImportService orderImportService;
+
+    public OrderImportController(OrderImportService orderImportService) {
+        this.orderImportService = orderImportService;
+    }
+
+    /**
+     * 주문 일괄 등록 API (CSV 기본, format=tsv 또는 .tsv/.tab 파일은 탭 구분)
+     */
+    @PostMapping("/orders/import")
+    public ResponseEntity<OrderImportResult> importOrders(@CurrentTeacher User currentTeacher,
+                                                          @RequestParam("file") MultipartFile file,
+                                                          @RequestParam(value = "format", required = false) String format) {
+        if (currentTeacher == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(orderImportService.importOrders(input, delimiterOf(format, file.getOriginalFilename()), currentTeacher));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static char delimiterOf(String format, String filename) {
+        if (format != null) {
+            return "tsv".equalsIgnoreCase(format) ? '\t' : ',';
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".tsv") || name.endsWith(".tab") ? '\t' : ',';
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.order.dto;
+
+import com.example.demo.order.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 한 줄 (주문, 고객, 상품을 조인한 프로젝션, 영속성 컨텍스트에 남지 않는다)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private String orderNumber;
+    private LocalDateTime createdAt;
+    private Order.OrderStatus status;
+    private String parentName;
+    private String parentPhone;
+    private String childName;
+    private String childGrade;
+    private String school;
+    private String grade;
+    private String managementType;
+    private String padType;
+    private String modelName;
+    private Integer quantity;
+    private BigDecimal totalAmount;
+}
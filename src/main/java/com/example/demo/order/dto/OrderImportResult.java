@@ -0,0 +1,29 @@
+package com.example.demo.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 등록 결과 (행 번호는 파일의 줄 번호, 오류는 앞에서부터 최대 1,000건)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderImportResult {
+
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowError> errors;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        private int line;
+        private String message;
+    }
+}
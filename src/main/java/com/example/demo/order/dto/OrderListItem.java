@@ -0,0 +1,26 @@
+package com.example.demo.order.dto;
+
+import com.example.demo.order.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 한 줄 (주문, 고객, 상품 이름을 한 번의 조회로 가져오는 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderListItem {
+
+    private Long id;
+    private String orderNumber;
+    private String parentName;
+    private String childName;
+    private String modelName;
+    private Integer quantity;
+    private BigDecimal totalAmount;
+    private Order.OrderStatus status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지 (다음 페이지는 마지막 주문의 등록일시와 ID 이전부터 조회, 없으면 둘 다 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderListPage {
+
+    private List<OrderListItem> orders;
+    private LocalDateTime nextCreatedAt;
+    private Long nextId;
+
+    public boolean hasNext() {
+        return nextId != null;
+    }
+}
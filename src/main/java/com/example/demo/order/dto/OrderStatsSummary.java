@@ -0,0 +1,32 @@
+package com.example.demo.order.dto;
+
+import com.example.demo.order.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 교사별 주문 집계 (전체, 상태별, 월별)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatsSummary {
+
+    private long orderCount;
+    private BigDecimal totalAmount;
+    private Map<Order.OrderStatus, Long> countByStatus;
+    private Map<Order.OrderStatus, BigDecimal> amountByStatus;
+    private List<MonthlyStats> monthly;     // 최근 월부터
+
+    @Getter
+    @AllArgsConstructor
+    public static class MonthlyStats {
+
+        private String month;               // yyyy-MM
+        private long orderCount;
+        private BigDecimal totalAmount;
+    }
+}
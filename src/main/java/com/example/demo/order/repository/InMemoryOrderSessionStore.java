@@ -0,0 +1,147 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.order.OrderSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 주문 세션 저장소
+ * 세션별 만료 시각(expiresAt)에 맞춰 자동 제거되며(Caffeine의 계층형 타이밍 휠),
+ * 최대 세션 수를 넘으면 사용 빈도가 낮은 세션부터 제거된다.
+ * 트랜잭션 안에서 요청한 삭제는 커밋된 뒤에 반영해, 주문 저장이 롤백되면 세션도 남아 있게 한다 (JPA 저장소와 같은 동작).
+ */
+@Component
+@ConditionalOnProperty(name = "order.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOrderSessionStore implements OrderSessionStore {
+
+    private final OrderSessionExpiryStats expiryStats;
+    private final Cache<String, OrderSession> sessions;
+    private final Map<String, String> sessionIdsByTeacher = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> reapedByCaller = new ThreadLocal<>();
+
+    public InMemoryOrderSessionStore(@Value("${order.session.max-entries:100000}") long maxEntries,
+                                     OrderSessionExpiryStats expiryStats) {
+        this.expiryStats = expiryStats;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, OrderSession>() {
+                    @Override
+                    public long expireAfterCreate(String key, OrderSession value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, OrderSession value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, OrderSession value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                // evictionListener는 제거와 같은 스레드에서 동기로 실행된다 (removalListener는 비동기)
+                .evictionListener((String sessionId, OrderSession session, RemovalCause cause) -> {
+                    if (session == null) {
+                        return;
+                    }
+                    sessionIdsByTeacher.remove(session.getTeacherEmpNo(), sessionId);
+                    if (cause == RemovalCause.EXPIRED) {
+                        expiryStats.record(1, Duration.between(session.getExpiresAt(), LocalDateTime.now()));
+                        int[] reaped = reapedByCaller.get();
+                        if (reaped != null) {
+                            reaped[0]++;
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public OrderSession save(OrderSession session) {
+        sessions.put(session.getSessionId(), session);
+        sessionIdsByTeacher.put(session.getTeacherEmpNo(), session.getSessionId());
+        return session;
+    }
+
+    @Override
+    public Optional<OrderSession> findBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo) {
+        OrderSession session = sessions.getIfPresent(sessionId);
+        if (session == null || !session.getTeacherEmpNo().equals(teacherEmpNo)) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void deleteBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(sessionId, teacherEmpNo);
+                }
+            });
+        } else {
+            delete(sessionId, teacherEmpNo);
+        }
+    }
+
+    @Override
+    public void deleteByTeacherEmpNo(String teacherEmpNo) {
+        String sessionId = sessionIdsByTeacher.remove(teacherEmpNo);
+        if (sessionId != null) {
+            sessions.invalidate(sessionId);
+        }
+    }
+
+    /**
+     * 밀린 만료 작업만 실행 (만료 처리는 캐시의 타이밍 휠이 담당)
+     * cleanUp은 호출 스레드에서 실행되므로, 이 스레드에서 일어난 만료만 세어 반환한다.
+     * 스케줄러나 다른 요청이 먼저 처리한 만료는 여기에 세지 않고 expiryStats에만 남는다.
+     */
+    @Override
+    public int deleteExpiredSessions(LocalDateTime currentTime, int batchSize) {
+        int[] reaped = new int[1];
+        reapedByCaller.set(reaped);
+        try {
+            sessions.cleanUp();
+        } finally {
+            reapedByCaller.remove();
+        }
+        return reaped[0];
+    }
+
+    @Override
+    public long count() {
+        return sessions.estimatedSize();
+    }
+
+    private void delete(String sessionId, String teacherEmpNo) {
+        sessions.asMap().computeIfPresent(sessionId,
+                (id, session) -> session.getTeacherEmpNo().equals(teacherEmpNo) ? null : session);
+        sessionIdsByTeacher.remove(teacherEmpNo, sessionId);
+    }
+
+    private static long remainingNanos(OrderSession session) {
+        if (session.getExpiresAt() == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, Duration.between(LocalDateTime.now(), session.getExpiresAt()).toNanos());
+    }
+}
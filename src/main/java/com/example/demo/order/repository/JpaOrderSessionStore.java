@@ -0,0 +1,70 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.order.OrderSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB(order_session 테이블) 기반 주문 세션 저장소 (order.session.store=jpa)
+ * 애플리케이션 재시작 후에도 진행 중인 주문 세션을 유지해야 할 때 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.session.store", havingValue = "jpa")
+public class JpaOrderSessionStore implements OrderSessionStore {
+
+    private final OrderSessionRepository orderSessionRepository;
+    private final OrderSessionExpiryStats expiryStats;
+
+    public JpaOrderSessionStore(OrderSessionRepository orderSessionRepository, OrderSessionExpiryStats expiryStats) {
+        this.orderSessionRepository = orderSessionRepository;
+        this.expiryStats = expiryStats;
+    }
+
+    @Override
+    public OrderSession save(OrderSession session) {
+        return orderSessionRepository.save(session);
+    }
+
+    @Override
+    public Optional<OrderSession> findBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo) {
+        return orderSessionRepository.findBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo);
+    }
+
+    @Override
+    public void deleteBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo) {
+        orderSessionRepository.findBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo)
+                .ifPresent(orderSessionRepository::delete);
+    }
+
+    @Override
+    public void deleteByTeacherEmpNo(String teacherEmpNo) {
+        orderSessionRepository.deleteByTeacherEmpNo(teacherEmpNo);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpiredSessions(LocalDateTime currentTime, int batchSize) {
+        // expires_at 인덱스를 타고 오래된 순으로 batchSize개만 조회 후 한 번에 삭제
+        List<OrderSession> expired = orderSessionRepository.findByExpiresAtBeforeOrderByExpiresAtAsc(
+                currentTime, PageRequest.of(0, batchSize));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        orderSessionRepository.deleteAllInBatch(expired);
+        expiryStats.record(expired.size(), Duration.between(expired.get(0).getExpiresAt(), currentTime));
+        return expired.size();
+    }
+
+    @Override
+    public long count() {
+        return orderSessionRepository.count();
+    }
+}
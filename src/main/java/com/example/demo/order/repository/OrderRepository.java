@@ -1,17 +1,23 @@
 package com.example.demo.order.repository;
 
 import com.example.demo.order.Order;
+import com.example.demo.order.dto.OrderExportRow;
+import com.example.demo.order.dto.OrderListItem;
 import com.example.demo.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -54,9 +60,61 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     long countByTeacher(User teacher);
     
+    /**
+     * 교사 사번으로 주문 목록 첫 페이지 조회 (고객/상품 이름을 조인한 프로젝션, 최신순)
+     */
+    @Query("SELECT new com.example.demo.order.dto.OrderListItem(" +
+           "o.id, o.orderNumber, c.parentName, c.childName, p.modelName, o.quantity, o.totalAmount, o.status, o.createdAt) " +
+           "FROM Order o JOIN o.customer c JOIN o.product p " +
+           "WHERE o.teacher.empNo = :teacherEmpNo " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderListItem> findListItemsByTeacherEmpNo(@Param("teacherEmpNo") String teacherEmpNo, Pageable pageable);
+    
+    /**
+     * 교사 사번으로 주문 목록 다음 페이지 조회 (등록일시, ID 기준 키셋 페이징)
+     */
+    @Query("SELECT new com.example.demo.order.dto.OrderListItem(" +
+           "o.id, o.orderNumber, c.parentName, c.childName, p.modelName, o.quantity, o.totalAmount, o.status, o.createdAt) " +
+           "FROM Order o JOIN o.customer c JOIN o.product p " +
+           "WHERE o.teacher.empNo = :teacherEmpNo " +
+           "AND (o.createdAt < :beforeCreatedAt OR (o.createdAt = :beforeCreatedAt AND o.id < :beforeId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderListItem> findListItemsByTeacherEmpNoBefore(@Param("teacherEmpNo") String teacherEmpNo,
+                                                          @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                          @Param("beforeId") Long beforeId,
+                                                          Pageable pageable);
+    
+    /**
+     * 교사별 상태/월 단위 주문 수와 총액 (집계 재계산용: 상태, 연, 월, 건수, 총액)
+     */
+    @Query("SELECT o.status, YEAR(o.createdAt), MONTH(o.createdAt), COUNT(o), SUM(o.totalAmount) " +
+           "FROM Order o WHERE o.teacher.empNo = :teacherEmpNo " +
+           "GROUP BY o.status, YEAR(o.createdAt), MONTH(o.createdAt)")
+    List<Object[]> aggregateByTeacherEmpNo(@Param("teacherEmpNo") String teacherEmpNo);
+    
+    /**
+     * 주문이 있는 교사 사번 목록
+     */
+    @Query("SELECT DISTINCT o.teacher.empNo FROM Order o")
+    List<String> findTeacherEmpNos();
+    
     /**
      * 교사 사번으로 주문 목록 조회
      */
     @Query("SELECT o FROM Order o WHERE o.teacher.empNo = :teacherEmpNo ORDER BY o.createdAt DESC")
     List<Order> findByTeacherEmpNoOrderByCreatedAtDesc(@Param("teacherEmpNo") String teacherEmpNo);
-}
\ No newline at end of file
+    
+    /**
+     * 교사 사번으로 기간 내 주문 내보내기 행을 등록순으로 스트리밍 (트랜잭션 안에서 사용 후 닫아야 한다)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.demo.order.dto.OrderExportRow(" +
+           "o.orderNumber, o.createdAt, o.status, c.parentName, c.parentPhone, c.childName, c.childGrade, c.school, " +
+           "p.grade, p.managementType, p.padType, p.modelName, o.quantity, o.totalAmount) " +
+           "FROM Order o JOIN o.customer c JOIN o.product p " +
+           "WHERE o.teacher.empNo = :teacherEmpNo AND o.createdAt >= :from AND o.createdAt < :to " +
+           "ORDER BY o.createdAt, o.id")
+    Stream<OrderExportRow> streamExportRows(@Param("teacherEmpNo") String teacherEmpNo,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+}
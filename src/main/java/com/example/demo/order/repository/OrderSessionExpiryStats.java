@@ -0,0 +1,44 @@
+package com.example.demo.order.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 만료 주문 세션 정리 통계
+ * 정리된 세션 수와 만료 시각 대비 실제 정리까지 걸린 지연(lag)을 기록한다.
+ */
+@Component
+public class OrderSessionExpiryStats {
+
+    private final AtomicLong reapedTotal = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final LongAccumulator maxLagMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 정리 결과 기록
+     */
+    public void record(int reapedCount, Duration lag) {
+        if (reapedCount <= 0) {
+            return;
+        }
+        long lagMillis = Math.max(0, lag.toMillis());
+        reapedTotal.addAndGet(reapedCount);
+        lastLagMillis.set(lagMillis);
+        maxLagMillis.accumulate(lagMillis);
+    }
+
+    public long getReapedTotal() {
+        return reapedTotal.get();
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis.get();
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis.get();
+    }
+}
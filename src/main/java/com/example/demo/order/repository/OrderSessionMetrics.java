@@ -0,0 +1,42 @@
+package com.example.demo.order.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 세션 저장소 지표 (저장된 세션 수, 만료 세션 정리 수와 정리 지연)
+ * 세션 수는 수집 시점에만 조회하며, JPA 저장소는 이때 count 쿼리를 한 번 실행한다.
+ */
+@Component
+public class OrderSessionMetrics implements MeterBinder {
+
+    private final OrderSessionStore orderSessionStore;
+    private final OrderSessionExpiryStats expiryStats;
+
+    public OrderSessionMetrics(OrderSessionStore orderSessionStore, OrderSessionExpiryStats expiryStats) {
+        this.orderSessionStore = orderSessionStore;
+        this.expiryStats = expiryStats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.order.session.active", orderSessionStore, OrderSessionStore::count)
+                .description("Order sessions currently stored")
+                .register(registry);
+        FunctionCounter.builder("app.order.session.reaped", expiryStats, OrderSessionExpiryStats::getReapedTotal)
+                .description("Expired order sessions removed")
+                .register(registry);
+        TimeGauge.builder("app.order.session.reap.lag", expiryStats, TimeUnit.MILLISECONDS, OrderSessionExpiryStats::getLastLagMillis)
+                .description("Delay between expiry and removal of the last reaped session")
+                .register(registry);
+        TimeGauge.builder("app.order.session.reap.lag.max", expiryStats, TimeUnit.MILLISECONDS, OrderSessionExpiryStats::getMaxLagMillis)
+                .description("Largest delay between expiry and removal since startup")
+                .register(registry);
+    }
+}
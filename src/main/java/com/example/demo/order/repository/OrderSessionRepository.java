@@ -1,6 +1,7 @@
 package com.example.demo.order.repository;
 
 import com.example.demo.order.OrderSession;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -35,6 +37,11 @@ public interface OrderSessionRepository extends JpaRepository<OrderSession, Stri
      */
     void deleteByTeacherEmpNo(String teacherEmpNo);
     
+    /**
+     * 만료된 세션을 만료 시각이 오래된 순으로 조회 (배치 정리용)
+     */
+    List<OrderSession> findByExpiresAtBeforeOrderByExpiresAtAsc(LocalDateTime currentTime, Pageable pageable);
+    
     /**
      * 만료된 세션 조회
      */
@@ -0,0 +1,44 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.order.OrderSession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 세션(3단계 주문 진행 상태) 저장소
+ * 기본은 메모리 저장소이며, order.session.store=jpa 설정 시 DB(order_session 테이블)에 저장한다.
+ */
+public interface OrderSessionStore {
+
+    /**
+     * 세션 저장 (신규/갱신)
+     */
+    OrderSession save(OrderSession session);
+
+    /**
+     * 세션 ID와 교사 번호로 조회 (만료된 세션은 조회되지 않을 수 있음)
+     */
+    Optional<OrderSession> findBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo);
+
+    /**
+     * 세션 ID와 교사 번호로 삭제
+     */
+    void deleteBySessionIdAndTeacherEmpNo(String sessionId, String teacherEmpNo);
+
+    /**
+     * 교사의 기존 세션 삭제
+     */
+    void deleteByTeacherEmpNo(String teacherEmpNo);
+
+    /**
+     * 만료된 세션을 최대 batchSize개까지 삭제 (만료 시각이 오래된 순)
+     * 호출마다 짧은 트랜잭션으로 처리하며 삭제된 세션 수를 반환한다.
+     */
+    int deleteExpiredSessions(LocalDateTime currentTime, int batchSize);
+
+    /**
+     * 저장된 세션 수
+     */
+    long count();
+}
@@ -0,0 +1,46 @@
+package com.example.demo.order.repository;
+
+import com.example.demo.order.OrderStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderStatsRepository extends JpaRepository<OrderStats, Long> {
+
+    /**
+     * 교사의 집계 전체 조회
+     */
+    List<OrderStats> findByTeacherEmpNo(String teacherEmpNo);
+
+    /**
+     * 집계 행 조회 (행 잠금, 재계산 중 주문 생성/상태 변경과 겹치지 않도록 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderStats s WHERE s.teacherEmpNo = :teacherEmpNo " +
+           "AND s.dimension = :dimension AND s.bucket = :bucket")
+    Optional<OrderStats> findForUpdate(@Param("teacherEmpNo") String teacherEmpNo,
+                                       @Param("dimension") OrderStats.Dimension dimension,
+                                       @Param("bucket") String bucket);
+
+    /**
+     * 교사의 전체 집계 외 행 삭제 (재계산 시 사용)
+     */
+    @Modifying
+    @Query("DELETE FROM OrderStats s WHERE s.teacherEmpNo = :teacherEmpNo AND s.dimension <> :keep")
+    int deleteByTeacherEmpNoExcept(@Param("teacherEmpNo") String teacherEmpNo,
+                                   @Param("keep") OrderStats.Dimension keep);
+
+    /**
+     * 집계가 있는 교사 사번 목록
+     */
+    @Query("SELECT DISTINCT s.teacherEmpNo FROM OrderStats s")
+    List<String> findTeacherEmpNos();
+}
@@ -0,0 +1,84 @@
+package com.example.demo.order.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV 내보내기 (UTF-8 BOM 포함, 엑셀에서 한글이 깨지지 않도록)
+ * 구분자/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고, 수식으로 해석될 수 있는 문자로 시작하는 값은 앞에 '를 붙인다.
+ */
+final class CsvSheetWriter implements ExportSheetWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvSheetWriter(OutputStream output, List<String> header) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+        writeRow(header);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number) {
+            writer.write(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && isFormulaStart(text.charAt(0))) {
+            text = "'" + text;
+        }
+        if (!needsQuote(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuote(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
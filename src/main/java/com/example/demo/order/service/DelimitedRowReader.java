@@ -0,0 +1,117 @@
+package com.example.demo.order.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV/TSV 행 단위 읽기 (파일 전체를 메모리에 올리지 않고 한 행씩 읽는다)
+ * 큰따옴표로 감싼 필드 안의 구분자와 줄바꿈, 두 번 쓴 큰따옴표("")를 처리한다.
+ */
+final class DelimitedRowReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char delimiter;
+    private int pushback = NONE;
+    private int lineNumber;
+    private int nextLineNumber = 1;
+    private boolean started;
+
+    DelimitedRowReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 마지막으로 읽은 행이 시작한 줄 번호
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * 다음 행의 필드 목록 (파일 끝이면 null)
+     */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        lineNumber = nextLineNumber;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IllegalArgumentException(lineNumber + "행: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (empty) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            empty = false;
+
+            if (quoted) {
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushback = n;
+                    }
+                } else {
+                    if (c == '\n') {
+                        nextLineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        pushback = n;
+                    }
+                }
+                nextLineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        int c = reader.read();
+        // UTF-8 BOM 제거
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
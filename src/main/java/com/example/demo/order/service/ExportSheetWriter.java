@@ -0,0 +1,15 @@
+package com.example.demo.order.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보내기 표 쓰기 (헤더는 생성 시 쓰고, 행은 받는 즉시 출력 스트림으로 내보낸다)
+ * 값은 String 또는 Number이며 null은 빈 칸이다. finish는 하위 스트림을 닫지 않는다.
+ */
+interface ExportSheetWriter {
+
+    void writeRow(List<?> values) throws IOException;
+
+    void finish() throws IOException;
+}
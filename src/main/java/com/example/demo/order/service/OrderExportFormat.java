@@ -0,0 +1,32 @@
+package com.example.demo.order.service;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 주문 내보내기 파일 형식
+ */
+@Getter
+public enum OrderExportFormat {
+
+    CSV("csv", "text/csv; charset=UTF-8"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+    private final String contentType;
+
+    OrderExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static OrderExportFormat of(String value) {
+        for (OrderExportFormat format : values()) {
+            if (format.extension.equals(value == null ? null : value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
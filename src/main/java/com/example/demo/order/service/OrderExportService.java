@@ -0,0 +1,92 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.dto.OrderExportRow;
+import com.example.demo.order.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 (CSV/XLSX)
+ * 프로젝션 스트림을 fetch size 단위로 읽으며 한 행씩 출력 스트림에 쓰므로, 건수와 관계없이 힙 사용량이 일정하다.
+ * 대신 마지막 행을 쓸 때까지 트랜잭션과 연결을 잡고 있으므로 동시 실행 수는 호출하는 쪽에서 제한한다 (order.export.max-concurrent).
+ */
+@Service
+@Timed("app.service")
+public class OrderExportService {
+
+    private static final String SHEET_NAME = "주문";
+    private static final List<String> HEADER = List.of(
+            "주문번호", "등록일시", "상태", "부모 이름", "부모 연락처", "자녀 이름", "자녀 학년", "학교",
+            "학년", "관리 유형", "패드 종류", "모델", "수량", "총액");
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final OrderRepository orderRepository;
+
+    public OrderExportService(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * 기간 검증 (from, to 모두 포함하는 날짜)
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간은 필수입니다.");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일이 시작일보다 앞설 수 없습니다.");
+        }
+    }
+
+    /**
+     * 교사의 기간 내 주문을 등록순으로 output에 쓰고 쓴 행 수를 반환 (output은 닫지 않는다)
+     */
+    @Transactional(readOnly = true)
+    public long export(String teacherEmpNo, LocalDate from, LocalDate to,
+                       OrderExportFormat format, OutputStream output) throws IOException {
+        validateRange(from, to);
+        ExportSheetWriter writer = format == OrderExportFormat.XLSX
+                ? new XlsxSheetWriter(output, SHEET_NAME, HEADER)
+                : new CsvSheetWriter(output, HEADER);
+
+        long rows = 0;
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRows(
+                teacherEmpNo, from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            Iterator<OrderExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(values(iterator.next()));
+                rows++;
+            }
+        }
+        writer.finish();
+        return rows;
+    }
+
+    private static List<Object> values(OrderExportRow row) {
+        return Arrays.asList(
+                row.getOrderNumber(),
+                row.getCreatedAt() == null ? null : CREATED_AT_FORMAT.format(row.getCreatedAt()),
+                row.getStatus() == null ? null : row.getStatus().name(),
+                row.getParentName(),
+                row.getParentPhone(),
+                row.getChildName(),
+                row.getChildGrade(),
+                row.getSchool(),
+                row.getGrade(),
+                row.getManagementType(),
+                row.getPadType(),
+                row.getModelName(),
+                row.getQuantity(),
+                row.getTotalAmount());
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.OrderSession;
+import com.example.demo.order.dto.OrderImportResult;
+import com.example.demo.product.Product;
+import com.example.demo.product.service.ProductCatalog;
+import com.example.demo.product.service.ProductEntitlement;
+import com.example.demo.user.User;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주문 일괄 등록 (CSV/TSV)
+ * 업로드 파일을 한 행씩 읽어 주문 단계별 입력과 같은 규칙으로 검증하고, 상품은 메모리 카탈로그에서 찾는다.
+ * 통과한 행은 chunkSize 단위 트랜잭션으로 저장하며, 청크 저장이 실패하면 그 청크만 한 행씩 다시 저장해 실패 행을 가려낸다.
+ *
+ * 첫 행은 헤더이며 다음 컬럼을 사용한다 (순서 무관, 대소문자 무시).
+ * parentName, parentPhone, parentEmail, address, childName, childGrade, school,
+ * grade, managementType, padType, productId 또는 modelName, quantity
+ */
+@Service
+@Timed("app.service")
+public class OrderImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "parentname", "parentphone", "childname", "childgrade", "grade", "managementtype", "padtype", "quantity");
+
+    private final ProductCatalog productCatalog;
+    private final OrderImportWriter orderImportWriter;
+    private final int chunkSize;
+
+    public OrderImportService(ProductCatalog productCatalog, OrderImportWriter orderImportWriter,
+                              @Value("${order.import.chunk-size:500}") int chunkSize) {
+        this.productCatalog = productCatalog;
+        this.orderImportWriter = orderImportWriter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 주문 일괄 등록 (delimiter는 ',' 또는 '\t')
+     */
+    public OrderImportResult importOrders(InputStream input, char delimiter, User teacher) throws IOException {
+        if (teacher == null) {
+            throw new IllegalArgumentException("교사 정보가 필요합니다.");
+        }
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (DelimitedRowReader reader = new DelimitedRowReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), delimiter)) {
+            Map<String, Integer> columns = readHeader(reader, progress);
+            if (columns != null) {
+                long teacherKey = ProductEntitlement.keyOf(teacher);
+                List<OrderImportWriter.Row> chunk = new ArrayList<>(chunkSize);
+                List<String> fields;
+                while ((fields = reader.next()) != null) {
+                    if (isBlank(fields)) {
+                        continue;
+                    }
+                    progress.totalRows++;
+                    try {
+                        chunk.add(toRow(reader.getLineNumber(), fields, columns, teacherKey));
+                    } catch (IllegalArgumentException e) {
+                        progress.fail(reader.getLineNumber(), e.getMessage());
+                    }
+                    if (chunk.size() >= chunkSize) {
+                        write(chunk, teacher, progress);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                write(chunk, teacher, progress);
+            }
+        } catch (IllegalArgumentException e) {
+            // 닫히지 않은 따옴표 등 파일 형식 오류 (이미 저장한 청크는 유지)
+            progress.report(0, e.getMessage());
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+        return new OrderImportResult(progress.totalRows, progress.importedRows, progress.failedRows, progress.errors,
+                elapsedNanos / 1_000_000, progress.totalRows * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private Map<String, Integer> readHeader(DelimitedRowReader reader, Progress progress) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            progress.report(1, "헤더 행이 없습니다.");
+            return null;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                missing.add(column);
+            }
+        }
+        if (!columns.containsKey("productid") && !columns.containsKey("modelname")) {
+            missing.add("productId 또는 modelName");
+        }
+        if (!missing.isEmpty()) {
+            progress.report(1, "필수 컬럼이 없습니다: " + String.join(", ", missing));
+            return null;
+        }
+        return columns;
+    }
+
+    private OrderImportWriter.Row toRow(int line, List<String> fields, Map<String, Integer> columns, long teacherKey) {
+        OrderSession.CustomerInfo customerInfo = new OrderSession.CustomerInfo(
+                field(fields, columns, "parentname"),
+                field(fields, columns, "parentphone"),
+                field(fields, columns, "parentemail"),
+                field(fields, columns, "address"),
+                field(fields, columns, "childname"),
+                field(fields, columns, "childgrade"),
+                field(fields, columns, "school"));
+        OrderValidator.validateCustomerInfo(customerInfo);
+
+        String grade = field(fields, columns, "grade");
+        String managementType = field(fields, columns, "managementtype");
+        String padType = field(fields, columns, "padtype");
+        Integer quantity = parseInteger(field(fields, columns, "quantity"), "수량은 숫자여야 합니다.");
+        Long productId = resolveProductId(fields, columns, grade, managementType, padType);
+        OrderValidator.validateModelSelection(grade, managementType, padType, productId, quantity);
+
+        Product product = productCatalog.findActiveById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        if (!product.getGrade().equals(grade)
+                || !product.getManagementType().equals(managementType)
+                || !product.getPadType().equals(padType)) {
+            throw new IllegalArgumentException("선택한 학년, 관리 유형, 패드 종류와 모델이 일치하지 않습니다.");
+        }
+        if (!ProductEntitlement.isAccessible(productCatalog.accessMaskOf(product), teacherKey)) {
+            throw new IllegalArgumentException("해당 상품에 대한 접근 권한이 없습니다.");
+        }
+        return new OrderImportWriter.Row(line, customerInfo, product, quantity);
+    }
+
+    /**
+     * productId가 있으면 그대로, 없으면 선택 조건의 모델 중 modelName이 같은 상품 ID
+     */
+    private Long resolveProductId(List<String> fields, Map<String, Integer> columns,
+                                  String grade, String managementType, String padType) {
+        String productId = field(fields, columns, "productid");
+        if (productId != null) {
+            return parseInteger(productId, "모델 ID는 숫자여야 합니다.").longValue();
+        }
+        String modelName = field(fields, columns, "modelname");
+        if (modelName == null) {
+            return null;
+        }
+        return productCatalog.getModels(grade, managementType, padType).stream()
+                .filter(product -> product.getModelName().equals(modelName))
+                .map(Product::getId)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+    }
+
+    private void write(List<OrderImportWriter.Row> chunk, User teacher, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            orderImportWriter.write(chunk, teacher);
+            progress.importedRows += chunk.size();
+        } catch (RuntimeException e) {
+            // 동시에 같은 고객이 등록된 경우 등: 한 행씩 다시 저장
+            for (OrderImportWriter.Row row : chunk) {
+                try {
+                    orderImportWriter.write(List.of(row), teacher);
+                    progress.importedRows++;
+                } catch (DataIntegrityViolationException retryFailure) {
+                    progress.fail(row.line(), "저장 중 데이터 충돌이 발생했습니다.");
+                } catch (RuntimeException retryFailure) {
+                    progress.fail(row.line(), "저장에 실패했습니다: " + retryFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String value, String errorMessage) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        for (String field : fields) {
+            if (!field.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Progress {
+
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+        private final List<OrderImportResult.RowError> errors = new ArrayList<>();
+
+        void fail(int line, String message) {
+            failedRows++;
+            report(line, message);
+        }
+
+        /**
+         * 행 실패로 세지 않는 파일 단위 오류 (헤더 누락, 형식 오류)
+         */
+        void report(int line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new OrderImportResult.RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.order.service;
+
+import com.example.demo.config.RecentWriteTracker;
+import com.example.demo.customer.Customer;
+import com.example.demo.customer.repository.CustomerRepository;
+import com.example.demo.order.Order;
+import com.example.demo.order.OrderSession;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.product.Product;
+import com.example.demo.user.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 일괄 등록의 청크 저장 (청크 하나가 트랜잭션 하나)
+ * 청크 안의 고객은 중복 확인 키로 한 번에 조회하고 없는 고객만 만들며, 주문과 고객은 JDBC 배치로 저장된다.
+ */
+@Component
+class OrderImportWriter {
+
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderStatsService orderStatsService;
+    private final RecentWriteTracker recentWriteTracker;
+
+    OrderImportWriter(OrderRepository orderRepository, CustomerRepository customerRepository,
+                      OrderNumberGenerator orderNumberGenerator, OrderStatsService orderStatsService,
+                      RecentWriteTracker recentWriteTracker) {
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.orderStatsService = orderStatsService;
+        this.recentWriteTracker = recentWriteTracker;
+    }
+
+    @Transactional
+    public void write(List<Row> rows, User teacher) {
+        Map<String, Customer> customers = findOrCreateCustomers(rows);
+
+        List<Order> orders = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Order order = new Order();
+            order.setOrderNumber(orderNumberGenerator.next());
+            order.setTeacher(teacher);
+            order.setCustomer(customers.get(dedupKeyOf(row.customerInfo())));
+            order.setProduct(row.product());
+            order.setQuantity(row.quantity());
+            order.setTotalAmount(row.product().getMonthlyFee().multiply(new BigDecimal(row.quantity())));
+            order.setStatus(Order.OrderStatus.PENDING);
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+        orderStatsService.recordCreated(orders);
+        // 청크가 커밋되면 가져온 주문이 목록에 바로 보이도록 잠시 주 DB에서 읽게 한다
+        recentWriteTracker.markWritten(teacher.getEmpNo());
+    }
+
+    private Map<String, Customer> findOrCreateCustomers(List<Row> rows) {
+        Map<String, OrderSession.CustomerInfo> infoByKey = new LinkedHashMap<>();
+        for (Row row : rows) {
+            infoByKey.putIfAbsent(dedupKeyOf(row.customerInfo()), row.customerInfo());
+        }
+
+        Map<String, Customer> customers = new HashMap<>();
+        for (Customer customer : customerRepository.findByDedupKeyIn(infoByKey.keySet())) {
+            customers.put(customer.getDedupKey(), customer);
+        }
+
+        List<Customer> created = new ArrayList<>();
+        infoByKey.forEach((key, info) -> {
+            if (!customers.containsKey(key)) {
+                Customer customer = info.toCustomer();
+                customers.put(key, customer);
+                created.add(customer);
+            }
+        });
+        customerRepository.saveAll(created);
+        return customers;
+    }
+
+    private static String dedupKeyOf(OrderSession.CustomerInfo info) {
+        return Customer.dedupKeyOf(info.getParentName(), info.getParentPhone());
+    }
+
+    /**
+     * 검증을 마친 주문 한 행
+     */
+    record Row(int line, OrderSession.CustomerInfo customerInfo, Product product, int quantity) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문번호 생성기
+ * 형식: ORD + yyyyMMddHHmmss(14) + 노드 ID(2) + 초 내 순번(5)  예) ORD20240301093015010002
+ * 초와 순번을 하나의 long에 담아 CAS로 갱신하므로 락 없이 스레드 간 중복이 없고,
+ * 인스턴스마다 다른 order.number.node-id를 지정하면 인스턴스 간에도 중복되지 않는다.
+ * 한 초에 순번을 모두 쓰면 다음 초를 미리 사용하여 번호가 항상 증가하도록 한다.
+ * 재시작 직후 같은 초(또는 미리 쓴 초)의 번호를 다시 내지 않도록, 기동 시 DB의 마지막 주문번호 다음 초부터 시작한다 (OrderNumberSeeder).
+ * 시각은 서버 시간대와 무관하게 한국 표준시(UTC+9 고정)로 적는다. 서머타임이 있는 시간대로 적으면
+ * 시계를 되돌리는 한 시간 동안 같은 yyyyMMddHHmmss가 다시 나와 순번 0부터 번호가 중복된다.
+ */
+@Component
+public class OrderNumberGenerator {
+
+    private static final String PREFIX = "ORD";
+    private static final int SEQUENCE_BITS = 17;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_SEQUENCE = 99_999;
+    private static final int MAX_NODE_ID = 99;
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("uuuuMMddHHmmss");
+
+    private final int nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    public OrderNumberGenerator(@Value("${order.number.node-id:0}") int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.number.node-id는 0~" + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 새 주문번호 생성
+     */
+    public String next() {
+        long now = System.currentTimeMillis() / 1000;
+        while (true) {
+            long prev = state.get();
+            long prevSecond = prev >>> SEQUENCE_BITS;
+            long prevSequence = prev & SEQUENCE_MASK;
+
+            long second;
+            long sequence;
+            if (now > prevSecond) {
+                second = now;
+                sequence = 0;
+            } else if (prevSequence < MAX_SEQUENCE) {
+                second = prevSecond;
+                sequence = prevSequence + 1;
+            } else {
+                second = prevSecond + 1;
+                sequence = 0;
+            }
+
+            if (state.compareAndSet(prev, (second << SEQUENCE_BITS) | sequence)) {
+                return format(second, sequence);
+            }
+        }
+    }
+
+    /**
+     * 이미 발급된 주문번호의 초 이후부터 발급하도록 상태를 앞당김 (형식이 다르면 무시, 이미 더 앞서 있으면 그대로)
+     */
+    public void advancePast(String orderNumber) {
+        if (orderNumber == null || orderNumber.length() < PREFIX.length() + 14 || !orderNumber.startsWith(PREFIX)) {
+            return;
+        }
+        long issuedSecond;
+        try {
+            LocalDateTime issuedAt = LocalDateTime.parse(orderNumber.substring(PREFIX.length(), PREFIX.length() + 14),
+                    SECOND_FORMAT);
+            issuedSecond = issuedAt.toEpochSecond(KST);
+        } catch (DateTimeParseException e) {
+            return;
+        }
+        // 그 초의 순번을 모두 쓴 상태로 두어 다음 번호는 빨라도 다음 초에서 나온다
+        long seeded = (issuedSecond << SEQUENCE_BITS) | MAX_SEQUENCE;
+        state.accumulateAndGet(seeded, Math::max);
+    }
+
+    private String format(long epochSecond, long sequence) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0, KST);
+
+        char[] chars = new char[PREFIX.length() + 14 + 2 + 5];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        int pos = PREFIX.length();
+        pos = writeDigits(chars, pos, time.getYear(), 4);
+        pos = writeDigits(chars, pos, time.getMonthValue(), 2);
+        pos = writeDigits(chars, pos, time.getDayOfMonth(), 2);
+        pos = writeDigits(chars, pos, time.getHour(), 2);
+        pos = writeDigits(chars, pos, time.getMinute(), 2);
+        pos = writeDigits(chars, pos, time.getSecond(), 2);
+        pos = writeDigits(chars, pos, nodeId, 2);
+        writeDigits(chars, pos, sequence, 5);
+        return new String(chars);
+    }
+
+    private static int writeDigits(char[] chars, int pos, long value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            chars[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.order.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 주문번호 생성기 초기화
+ * DB에서 마지막 ORD 주문번호를 읽어 그 초 이후부터 발급하게 한다. 재시작 직후 같은 초나 직전 실행이 미리 쓴 초의 번호를
+ * 다시 내면 커밋 시점에 uk_orders_order_number 위반이 나기 때문이다.
+ * 모든 빈(스키마 생성 포함)이 만들어진 뒤, 웹 서버가 요청을 받기 전에 실행된다.
+ */
+@Component
+class OrderNumberSeeder implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderNumberSeeder.class);
+    private static final String NODE_ID_PROPERTY = "order.number.node-id";
+
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+
+    OrderNumberSeeder(OrderNumberGenerator orderNumberGenerator, JdbcTemplate jdbcTemplate, Environment environment) {
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!environment.containsProperty(NODE_ID_PROPERTY)) {
+            log.warn("{}가 지정되지 않아 0을 사용합니다. 같은 DB를 쓰는 인스턴스가 둘 이상이면 인스턴스마다 다른 값(0~99)을 "
+                    + "지정해야 합니다. 같은 값이면 두 인스턴스가 같은 주문번호를 발급해 주문 저장이 실패합니다.", NODE_ID_PROPERTY);
+        }
+
+        // 주문번호 유일 인덱스의 범위 조회 (합성 데이터의 SYN 번호는 제외)
+        String latest = jdbcTemplate.queryForObject(
+                "SELECT MAX(order_number) FROM orders WHERE order_number >= 'ORD' AND order_number < 'ORE'", String.class);
+        orderNumberGenerator.advancePast(latest);
+        if (latest != null) {
+            log.info("주문번호 발급을 마지막 주문번호 {} 이후부터 시작합니다.", latest);
+        }
+    }
+}
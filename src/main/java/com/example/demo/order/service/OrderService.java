@@ -1,46 +1,74 @@
 package com.example.demo.order.service;
 
+import com.example.demo.config.RecentWriteTracker;
 import com.example.demo.customer.Customer;
-import com.example.demo.customer.repository.CustomerRepository;
+import com.example.demo.customer.service.CustomerService;
 import com.example.demo.order.Order;
 import com.example.demo.order.OrderSession;
+import com.example.demo.order.dto.OrderListItem;
+import com.example.demo.order.dto.OrderListPage;
+import com.example.demo.order.dto.OrderStatsSummary;
 import com.example.demo.order.repository.OrderRepository;
-import com.example.demo.order.repository.OrderSessionRepository;
+import com.example.demo.order.repository.OrderSessionStore;
 import com.example.demo.product.Product;
 import com.example.demo.product.repository.ProductRepository;
 import com.example.demo.product.service.ProductService;
 import com.example.demo.user.User;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed("app.service")
 @Transactional(readOnly = true)
 public class OrderService {
     
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+    
     private final OrderRepository orderRepository;
-    private final OrderSessionRepository orderSessionRepository;
-    private final CustomerRepository customerRepository;
+    private final OrderSessionStore orderSessionStore;
+    private final CustomerService customerService;
     private final ProductRepository productRepository;
     private final ProductService productService;
+    private final OrderSessionReaper orderSessionReaper;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderStatsService orderStatsService;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Duration sessionTtl;
     
     public OrderService(OrderRepository orderRepository,
-                       OrderSessionRepository orderSessionRepository,
-                       CustomerRepository customerRepository,
+                       OrderSessionStore orderSessionStore,
+                       CustomerService customerService,
                        ProductRepository productRepository,
-                       ProductService productService) {
+                       ProductService productService,
+                       OrderSessionReaper orderSessionReaper,
+                       OrderNumberGenerator orderNumberGenerator,
+                       OrderStatsService orderStatsService,
+                       RecentWriteTracker recentWriteTracker,
+                       @Value("${order.session.ttl:2h}") Duration sessionTtl) {
         this.orderRepository = orderRepository;
-        this.orderSessionRepository = orderSessionRepository;
-        this.customerRepository = customerRepository;
+        this.orderSessionStore = orderSessionStore;
+        this.customerService = customerService;
         this.productRepository = productRepository;
         this.productService = productService;
+        this.orderSessionReaper = orderSessionReaper;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.orderStatsService = orderStatsService;
+        this.recentWriteTracker = recentWriteTracker;
+        this.sessionTtl = sessionTtl;
     }
     
     /**
@@ -53,15 +81,17 @@ public class OrderService {
         }
         
         // 기존 세션이 있으면 삭제
-        orderSessionRepository.deleteByTeacherEmpNo(teacherEmpNo);
+        orderSessionStore.deleteByTeacherEmpNo(teacherEmpNo);
         
         // 새로운 세션 생성
         OrderSession session = new OrderSession();
         session.setSessionId(generateSessionId());
         session.setTeacherEmpNo(teacherEmpNo);
-        session.onCreate();
+        LocalDateTime now = LocalDateTime.now();
+        session.setCreatedAt(now);
+        session.setExpiresAt(now.plus(sessionTtl));
         
-        orderSessionRepository.save(session);
+        orderSessionStore.save(session);
         return session.getSessionId();
     }
     
@@ -77,10 +107,10 @@ public class OrderService {
         }
         
         // 고객 정보 유효성 검사
-        validateCustomerInfo(customerInfo);
+        OrderValidator.validateCustomerInfo(customerInfo);
         
         session.setCustomerInfo(customerInfo);
-        orderSessionRepository.save(session);
+        orderSessionStore.save(session);
     }
     
     /**
@@ -93,7 +123,7 @@ public class OrderService {
         OrderSession session = getValidSession(sessionId, teacherEmpNo);
         
         // 모델 선택 정보 유효성 검사
-        validateModelSelection(grade, managementType, padType, productId, quantity);
+        OrderValidator.validateModelSelection(grade, managementType, padType, productId, quantity);
         
         session.setSelectedGrade(grade);
         session.setSelectedManagementType(managementType);
@@ -101,7 +131,7 @@ public class OrderService {
         session.setSelectedProductId(productId);
         session.setQuantity(quantity);
         
-        orderSessionRepository.save(session);
+        orderSessionStore.save(session);
     }
     
     /**
@@ -112,7 +142,7 @@ public class OrderService {
             return Optional.empty();
         }
         
-        Optional<OrderSession> session = orderSessionRepository.findBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo);
+        Optional<OrderSession> session = orderSessionStore.findBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo);
         
         // 만료된 세션 확인
         if (session.isPresent() && session.get().isExpired()) {
@@ -141,15 +171,18 @@ public class OrderService {
         
         // 주문 생성
         Order order = new Order();
+        order.setOrderNumber(orderNumberGenerator.next());
         order.setTeacher(teacher);
         order.setCustomer(customer);
         order.setProduct(product);
         order.setQuantity(session.getQuantity());
         order.setTotalAmount(calculateTotalAmount(product, session.getQuantity()));
         order.setStatus(Order.OrderStatus.PENDING);
-        order.onCreate();
         
         Order savedOrder = orderRepository.save(order);
+        orderStatsService.recordCreated(savedOrder);
+        // 주문 목록으로 돌아갔을 때 방금 만든 주문이 보이도록 잠시 주 DB에서 읽게 한다
+        recentWriteTracker.markWritten(teacherEmpNo);
         
         // 세션 삭제
         deleteOrderSession(sessionId, teacherEmpNo);
@@ -177,6 +210,29 @@ public class OrderService {
         return orderRepository.findByTeacherOrderByCreatedAtDesc(teacher);
     }
     
+    /**
+     * 교사 사번으로 주문 목록 한 페이지 조회 (beforeCreatedAt/beforeId가 없으면 첫 페이지)
+     */
+    public OrderListPage getOrderListPage(String teacherEmpNo, LocalDateTime beforeCreatedAt, Long beforeId, int size) {
+        if (teacherEmpNo == null || teacherEmpNo.trim().isEmpty()) {
+            throw new IllegalArgumentException("교사 사번이 필요합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_ORDER_PAGE_SIZE));
+        
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<OrderListItem> rows = beforeCreatedAt == null || beforeId == null
+                ? orderRepository.findListItemsByTeacherEmpNo(teacherEmpNo, limit)
+                : orderRepository.findListItemsByTeacherEmpNoBefore(teacherEmpNo, beforeCreatedAt, beforeId, limit);
+        
+        if (rows.size() <= pageSize) {
+            return new OrderListPage(rows, null, null);
+        }
+        List<OrderListItem> page = new ArrayList<>(rows.subList(0, pageSize));
+        OrderListItem last = page.get(pageSize - 1);
+        return new OrderListPage(page, last.getCreatedAt(), last.getId());
+    }
+    
     /**
      * 교사 사번으로 주문 목록 조회
      */
@@ -213,21 +269,50 @@ public class OrderService {
     }
     
     /**
-     * 교사별 주문 개수 조회
+     * 주문 상태 변경 (권한 확인, 주문 집계도 같은 트랜잭션에서 갱신)
+     */
+    @Transactional
+    public Order changeOrderStatus(Long orderId, User teacher, Order.OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("변경할 주문 상태가 필요합니다.");
+        }
+        Order order = getOrderDetail(orderId, teacher)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+        
+        Order.OrderStatus previousStatus = order.getStatus();
+        order.setStatus(status);
+        orderStatsService.recordStatusChange(order, previousStatus);
+        recentWriteTracker.markWritten(teacher.getEmpNo());
+        return order;
+    }
+    
+    /**
+     * 교사별 주문 개수 조회 (주문 집계 사용)
      */
     public long getOrderCountByTeacher(User teacher) {
         if (teacher == null) {
             return 0;
         }
-        return orderRepository.countByTeacher(teacher);
+        return orderStatsService.getStats(teacher.getEmpNo()).getOrderCount();
+    }
+    
+    /**
+     * 교사별 주문 집계 조회 (전체, 상태별, 월별)
+     */
+    public OrderStatsSummary getOrderStats(String teacherEmpNo) {
+        if (teacherEmpNo == null || teacherEmpNo.trim().isEmpty()) {
+            throw new IllegalArgumentException("교사 사번이 필요합니다.");
+        }
+        return orderStatsService.getStats(teacherEmpNo);
     }
     
     /**
      * 만료된 세션 정리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupExpiredSessions() {
-        return orderSessionRepository.deleteExpiredSessions(LocalDateTime.now());
+        // 배치 단위의 짧은 트랜잭션으로 나누어 정리
+        return orderSessionReaper.reapExpiredSessions();
     }
     
     /**
@@ -235,8 +320,7 @@ public class OrderService {
      */
     @Transactional
     public void deleteOrderSession(String sessionId, String teacherEmpNo) {
-        Optional<OrderSession> session = orderSessionRepository.findBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo);
-        session.ifPresent(orderSessionRepository::delete);
+        orderSessionStore.deleteBySessionIdAndTeacherEmpNo(sessionId, teacherEmpNo);
     }
     
     // === Private Helper Methods ===
@@ -253,39 +337,6 @@ public class OrderService {
         return session.get();
     }
     
-    private void validateCustomerInfo(OrderSession.CustomerInfo customerInfo) {
-        if (customerInfo.getParentName() == null || customerInfo.getParentName().trim().isEmpty()) {
-            throw new IllegalArgumentException("부모 이름은 필수입니다.");
-        }
-        if (customerInfo.getParentPhone() == null || customerInfo.getParentPhone().trim().isEmpty()) {
-            throw new IllegalArgumentException("부모 연락처는 필수입니다.");
-        }
-        if (customerInfo.getChildName() == null || customerInfo.getChildName().trim().isEmpty()) {
-            throw new IllegalArgumentException("자녀 이름은 필수입니다.");
-        }
-        if (customerInfo.getChildGrade() == null || customerInfo.getChildGrade().trim().isEmpty()) {
-            throw new IllegalArgumentException("자녀 학년은 필수입니다.");
-        }
-    }
-    
-    private void validateModelSelection(String grade, String managementType, String padType, Long productId, Integer quantity) {
-        if (grade == null || grade.trim().isEmpty()) {
-            throw new IllegalArgumentException("학년 선택은 필수입니다.");
-        }
-        if (managementType == null || managementType.trim().isEmpty()) {
-            throw new IllegalArgumentException("관리 유형 선택은 필수입니다.");
-        }
-        if (padType == null || padType.trim().isEmpty()) {
-            throw new IllegalArgumentException("패드 종류 선택은 필수입니다.");
-        }
-        if (productId == null) {
-            throw new IllegalArgumentException("모델 선택은 필수입니다.");
-        }
-        if (quantity == null || quantity <= 0) {
-            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
-        }
-    }
-    
     private void validateCompleteSession(OrderSession session) {
         if (session.getCustomerInfo() == null) {
             throw new IllegalArgumentException("고객 정보가 입력되지 않았습니다.");
@@ -299,34 +350,8 @@ public class OrderService {
     }
     
     private Customer createOrFindCustomer(OrderSession.CustomerInfo customerInfo) {
-        // 기존 고객 검색 (부모 이름 + 연락처)
-        boolean exists = customerRepository.existsByParentNameAndParentPhone(
-            customerInfo.getParentName(), customerInfo.getParentPhone());
-        
-        if (exists) {
-            // 기존 고객 조회
-            List<Customer> existingCustomers = customerRepository.findByParentNameContainingIgnoreCase(customerInfo.getParentName());
-            Optional<Customer> matchingCustomer = existingCustomers.stream()
-                .filter(c -> c.getParentPhone().equals(customerInfo.getParentPhone()))
-                .findFirst();
-            
-            if (matchingCustomer.isPresent()) {
-                return matchingCustomer.get();
-            }
-        }
-        
-        // 새 고객 생성
-        Customer customer = new Customer();
-        customer.setParentName(customerInfo.getParentName());
-        customer.setParentPhone(customerInfo.getParentPhone());
-        customer.setParentEmail(customerInfo.getParentEmail());
-        customer.setAddress(customerInfo.getAddress());
-        customer.setChildName(customerInfo.getChildName());
-        customer.setChildGrade(customerInfo.getChildGrade());
-        customer.setSchool(customerInfo.getSchool());
-        customer.onCreate();
-        
-        return customerRepository.save(customer);
+        // 중복 확인 키(연락처 + 부모 이름)로 한 번 조회 후 없으면 등록
+        return customerService.findOrCreateCustomer(customerInfo.toCustomer());
     }
     
     private Product getValidProduct(Long productId, User teacher) {
@@ -0,0 +1,47 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.repository.OrderSessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 주문 세션 정리 작업
+ * 주기적으로 만료된 세션을 batchSize 단위의 짧은 트랜잭션으로 나누어 삭제하고,
+ * 한 번 실행에 maxBatches 배치까지만 처리하여 테이블 전체를 오래 잠그지 않는다.
+ */
+@Component
+public class OrderSessionReaper {
+
+    private final OrderSessionStore orderSessionStore;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public OrderSessionReaper(OrderSessionStore orderSessionStore,
+                              @Value("${order.session.reaper.batch-size:500}") int batchSize,
+                              @Value("${order.session.reaper.max-batches:20}") int maxBatches) {
+        this.orderSessionStore = orderSessionStore;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * 만료 세션 정리 (삭제된 세션 수 반환)
+     */
+    @Scheduled(fixedDelayString = "${order.session.reaper.interval:PT1M}",
+               initialDelayString = "${order.session.reaper.interval:PT1M}")
+    public int reapExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = orderSessionStore.deleteExpiredSessions(now, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.OrderStats;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * 집계 행 증감 (행이 없으면 만들면서 증감하는 MERGE 한 문장)
+ * 호출한 쪽 트랜잭션의 연결에서 실행하므로 연결을 더 잡지 않고, 주문이 롤백되면 새 집계 행도 함께 롤백된다.
+ * 동시에 같은 행을 만들다 중복 키로 실패하면 그 문장만 취소되므로 (트랜잭션은 rollback-only가 되지 않음) 한 번 더 실행해 갱신한다.
+ */
+@Component
+class OrderStatsInserter {
+
+    private static final String UPSERT =
+            "MERGE INTO order_stats s "
+            + "USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(10)), CAST(? AS VARCHAR(20)), "
+            + "CAST(? AS BIGINT), CAST(? AS NUMERIC(15, 2)))) v (teacher_emp_no, dimension, bucket, order_count, total_amount) "
+            + "ON s.teacher_emp_no = v.teacher_emp_no AND s.dimension = v.dimension AND s.bucket = v.bucket "
+            + "WHEN MATCHED THEN UPDATE SET order_count = s.order_count + v.order_count, "
+            + "total_amount = s.total_amount + v.total_amount "
+            + "WHEN NOT MATCHED THEN INSERT (id, teacher_emp_no, dimension, bucket, order_count, total_amount) "
+            + "VALUES (NEXT VALUE FOR order_stats_seq, v.teacher_emp_no, v.dimension, v.bucket, v.order_count, v.total_amount)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderStatsInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsert(String teacherEmpNo, OrderStats.Dimension dimension, String bucket, long count, BigDecimal amount) {
+        Object[] args = {teacherEmpNo, dimension.name(), bucket, count, amount};
+        try {
+            jdbcTemplate.update(UPSERT, args);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 같은 행을 먼저 만든 경우 (이제는 있는 행을 갱신)
+            jdbcTemplate.update(UPSERT, args);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.repository.OrderStatsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 주문 집계 재계산 작업
+ * 주기적으로 교사마다 주문 테이블을 다시 집계해 증감 누락이나 직접 수정된 데이터로 생긴 차이를 바로잡는다.
+ * 집계 테이블이 비어 있으면(최초 배포 등) 기동 직후에도 한 번 실행한다.
+ */
+@Component
+public class OrderStatsReconciler {
+
+    private final OrderStatsService orderStatsService;
+    private final OrderRepository orderRepository;
+    private final OrderStatsRepository orderStatsRepository;
+
+    public OrderStatsReconciler(OrderStatsService orderStatsService, OrderRepository orderRepository,
+                                OrderStatsRepository orderStatsRepository) {
+        this.orderStatsService = orderStatsService;
+        this.orderRepository = orderRepository;
+        this.orderStatsRepository = orderStatsRepository;
+    }
+
+    /**
+     * 전체 교사 집계 재계산 (재계산한 교사 수 반환)
+     */
+    @Scheduled(cron = "${order.stats.reconcile.cron:0 30 3 * * *}")
+    public int reconcileAll() {
+        Set<String> teacherEmpNos = new TreeSet<>(orderRepository.findTeacherEmpNos());
+        teacherEmpNos.addAll(orderStatsRepository.findTeacherEmpNos());
+        for (String teacherEmpNo : teacherEmpNos) {
+            orderStatsService.reconcile(teacherEmpNo);
+        }
+        return teacherEmpNos.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (orderStatsRepository.count() == 0) {
+            reconcileAll();
+        }
+    }
+}
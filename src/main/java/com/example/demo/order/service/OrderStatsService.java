@@ -0,0 +1,200 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.Order;
+import com.example.demo.order.OrderStats;
+import com.example.demo.order.dto.OrderStatsSummary;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.order.repository.OrderStatsRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 교사별 주문 집계 관리
+ * 주문 생성/상태 변경 트랜잭션 안에서 집계 행을 원자적으로 증감하므로 조회 시 주문 테이블을 집계하지 않는다.
+ * 갱신은 항상 전체(TOTAL) 행부터 잠가서 같은 교사의 주문 생성, 상태 변경, 재계산이 차례로 처리되게 한다.
+ */
+@Service
+@Timed("app.service")
+@Transactional(readOnly = true)
+public class OrderStatsService {
+
+    private static final String TOTAL_BUCKET = "";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final Comparator<StatsKey> STATS_KEY_ORDER = Comparator.comparing(StatsKey::teacherEmpNo)
+            .thenComparing(StatsKey::dimension)
+            .thenComparing(StatsKey::bucket);
+
+    private final OrderStatsRepository orderStatsRepository;
+    private final OrderRepository orderRepository;
+    private final OrderStatsInserter orderStatsInserter;
+
+    public OrderStatsService(OrderStatsRepository orderStatsRepository, OrderRepository orderRepository,
+                             OrderStatsInserter orderStatsInserter) {
+        this.orderStatsRepository = orderStatsRepository;
+        this.orderRepository = orderRepository;
+        this.orderStatsInserter = orderStatsInserter;
+    }
+
+    /**
+     * 주문 생성 반영 (createdAt이 채워진 저장 후 주문으로 호출)
+     */
+    @Transactional
+    public void recordCreated(Order order) {
+        recordCreated(List.of(order));
+    }
+
+    /**
+     * 여러 주문 생성 반영 (집계 행마다 한 번만 증감, 교사별로 전체 행부터 갱신)
+     */
+    @Transactional
+    public void recordCreated(Collection<Order> orders) {
+        Map<StatsKey, Delta> deltas = new TreeMap<>(STATS_KEY_ORDER);
+        for (Order order : orders) {
+            String teacherEmpNo = order.getTeacher().getEmpNo();
+            BigDecimal amount = order.getTotalAmount();
+            deltas.computeIfAbsent(new StatsKey(teacherEmpNo, OrderStats.Dimension.TOTAL, TOTAL_BUCKET), key -> new Delta())
+                    .add(amount);
+            deltas.computeIfAbsent(new StatsKey(teacherEmpNo, OrderStats.Dimension.STATUS, order.getStatus().name()), key -> new Delta())
+                    .add(amount);
+            deltas.computeIfAbsent(new StatsKey(teacherEmpNo, OrderStats.Dimension.MONTH, monthOf(order.getCreatedAt())), key -> new Delta())
+                    .add(amount);
+        }
+        deltas.forEach((key, delta) ->
+                increment(key.teacherEmpNo(), key.dimension(), key.bucket(), delta.count, delta.amount));
+    }
+
+    /**
+     * 주문 상태 변경 반영 (order는 이미 새 상태)
+     */
+    @Transactional
+    public void recordStatusChange(Order order, Order.OrderStatus previousStatus) {
+        if (previousStatus == order.getStatus()) {
+            return;
+        }
+        String teacherEmpNo = order.getTeacher().getEmpNo();
+        BigDecimal amount = order.getTotalAmount();
+        increment(teacherEmpNo, OrderStats.Dimension.TOTAL, TOTAL_BUCKET, 0, BigDecimal.ZERO);
+        increment(teacherEmpNo, OrderStats.Dimension.STATUS, previousStatus.name(), -1, amount.negate());
+        increment(teacherEmpNo, OrderStats.Dimension.STATUS, order.getStatus().name(), 1, amount);
+    }
+
+    /**
+     * 교사별 주문 집계 조회
+     */
+    public OrderStatsSummary getStats(String teacherEmpNo) {
+        long orderCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<Order.OrderStatus, Long> countByStatus = new EnumMap<>(Order.OrderStatus.class);
+        Map<Order.OrderStatus, BigDecimal> amountByStatus = new EnumMap<>(Order.OrderStatus.class);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            countByStatus.put(status, 0L);
+            amountByStatus.put(status, BigDecimal.ZERO);
+        }
+        List<OrderStatsSummary.MonthlyStats> monthly = new ArrayList<>();
+
+        for (OrderStats stats : orderStatsRepository.findByTeacherEmpNo(teacherEmpNo)) {
+            switch (stats.getDimension()) {
+                case TOTAL -> {
+                    orderCount = stats.getOrderCount();
+                    totalAmount = stats.getTotalAmount();
+                }
+                case STATUS -> {
+                    Order.OrderStatus status = Order.OrderStatus.valueOf(stats.getBucket());
+                    countByStatus.put(status, stats.getOrderCount());
+                    amountByStatus.put(status, stats.getTotalAmount());
+                }
+                case MONTH -> {
+                    if (stats.getOrderCount() > 0) {
+                        monthly.add(new OrderStatsSummary.MonthlyStats(stats.getBucket(),
+                                stats.getOrderCount(), stats.getTotalAmount()));
+                    }
+                }
+            }
+        }
+        monthly.sort(Comparator.comparing(OrderStatsSummary.MonthlyStats::getMonth).reversed());
+        return new OrderStatsSummary(orderCount, totalAmount, countByStatus, amountByStatus, monthly);
+    }
+
+    /**
+     * 교사 집계를 주문 테이블 기준으로 다시 계산 (교사별 독립 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reconcile(String teacherEmpNo) {
+        OrderStats total = orderStatsRepository.findForUpdate(teacherEmpNo, OrderStats.Dimension.TOTAL, TOTAL_BUCKET)
+                .orElseGet(() -> {
+                    ensureRow(teacherEmpNo, OrderStats.Dimension.TOTAL, TOTAL_BUCKET);
+                    return orderStatsRepository.findForUpdate(teacherEmpNo, OrderStats.Dimension.TOTAL, TOTAL_BUCKET)
+                            .orElseThrow(() -> new IllegalStateException("주문 집계 행을 찾을 수 없습니다: " + teacherEmpNo));
+                });
+
+        long orderCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<String, OrderStats> statusRows = new TreeMap<>();
+        Map<String, OrderStats> monthRows = new TreeMap<>();
+        for (Object[] row : orderRepository.aggregateByTeacherEmpNo(teacherEmpNo)) {
+            String status = ((Order.OrderStatus) row[0]).name();
+            String month = String.format("%04d-%02d", ((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            long count = ((Number) row[3]).longValue();
+            BigDecimal amount = row[4] == null ? BigDecimal.ZERO : (BigDecimal) row[4];
+
+            orderCount += count;
+            totalAmount = totalAmount.add(amount);
+            accumulate(statusRows, teacherEmpNo, OrderStats.Dimension.STATUS, status, count, amount);
+            accumulate(monthRows, teacherEmpNo, OrderStats.Dimension.MONTH, month, count, amount);
+        }
+
+        orderStatsRepository.deleteByTeacherEmpNoExcept(teacherEmpNo, OrderStats.Dimension.TOTAL);
+        total.setOrderCount(orderCount);
+        total.setTotalAmount(totalAmount);
+        orderStatsRepository.saveAll(statusRows.values());
+        orderStatsRepository.saveAll(monthRows.values());
+    }
+
+    private void increment(String teacherEmpNo, OrderStats.Dimension dimension, String bucket,
+                           long count, BigDecimal amount) {
+        orderStatsInserter.upsert(teacherEmpNo, dimension, bucket, count, amount);
+    }
+
+    private void ensureRow(String teacherEmpNo, OrderStats.Dimension dimension, String bucket) {
+        orderStatsInserter.upsert(teacherEmpNo, dimension, bucket, 0, BigDecimal.ZERO);
+    }
+
+    private static void accumulate(Map<String, OrderStats> rows, String teacherEmpNo, OrderStats.Dimension dimension,
+                                   String bucket, long count, BigDecimal amount) {
+        OrderStats stats = rows.computeIfAbsent(bucket,
+                key -> new OrderStats(teacherEmpNo, dimension, key, 0, BigDecimal.ZERO));
+        stats.setOrderCount(stats.getOrderCount() + count);
+        stats.setTotalAmount(stats.getTotalAmount().add(amount));
+    }
+
+    private record StatsKey(String teacherEmpNo, OrderStats.Dimension dimension, String bucket) {
+    }
+
+    private static final class Delta {
+
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        void add(BigDecimal orderAmount) {
+            count++;
+            amount = amount.add(orderAmount);
+        }
+    }
+
+    private static String monthOf(LocalDateTime createdAt) {
+        return (createdAt == null ? LocalDateTime.now() : createdAt).format(MONTH_FORMAT);
+    }
+}
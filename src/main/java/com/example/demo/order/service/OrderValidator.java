@@ -0,0 +1,45 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.OrderSession;
+
+/**
+ * 주문 입력값 검증 규칙 (주문 단계별 입력과 일괄 등록이 같은 규칙을 쓰도록 한 곳에 둔다)
+ */
+final class OrderValidator {
+
+    private OrderValidator() {
+    }
+
+    static void validateCustomerInfo(OrderSession.CustomerInfo customerInfo) {
+        if (customerInfo.getParentName() == null || customerInfo.getParentName().trim().isEmpty()) {
+            throw new IllegalArgumentException("부모 이름은 필수입니다.");
+        }
+        if (customerInfo.getParentPhone() == null || customerInfo.getParentPhone().trim().isEmpty()) {
+            throw new IllegalArgumentException("부모 연락처는 필수입니다.");
+        }
+        if (customerInfo.getChildName() == null || customerInfo.getChildName().trim().isEmpty()) {
+            throw new IllegalArgumentException("자녀 이름은 필수입니다.");
+        }
+        if (customerInfo.getChildGrade() == null || customerInfo.getChildGrade().trim().isEmpty()) {
+            throw new IllegalArgumentException("자녀 학년은 필수입니다.");
+        }
+    }
+
+    static void validateModelSelection(String grade, String managementType, String padType, Long productId, Integer quantity) {
+        if (grade == null || grade.trim().isEmpty()) {
+            throw new IllegalArgumentException("학년 선택은 필수입니다.");
+        }
+        if (managementType == null || managementType.trim().isEmpty()) {
+            throw new IllegalArgumentException("관리 유형 선택은 필수입니다.");
+        }
+        if (padType == null || padType.trim().isEmpty()) {
+            throw new IllegalArgumentException("패드 종류 선택은 필수입니다.");
+        }
+        if (productId == null) {
+            throw new IllegalArgumentException("모델 선택은 필수입니다.");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.product;
 
+import com.example.demo.product.event.ProductEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,10 +15,12 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @Entity
 @Table(name = "product")
+@EntityListeners(ProductEntityListener.class)
 public class Product {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_gen")
+    @SequenceGenerator(name = "product_seq_gen", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 10)
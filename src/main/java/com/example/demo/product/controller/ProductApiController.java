@@ -1,11 +1,14 @@
 package com.example.demo.product.controller;
 
 import com.example.demo.product.Product;
+import com.example.demo.product.service.ProductEntitlement;
+import com.example.demo.product.service.ProductResponseCache;
 import com.example.demo.product.service.ProductService;
+import com.example.demo.user.CurrentTeacher;
 import com.example.demo.user.User;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -20,9 +23,11 @@ import java.util.stream.Collectors;
 public class ProductApiController {
     
     private final ProductService productService;
+    private final ProductResponseCache responseCache;
     
-    public ProductApiController(ProductService productService) {
+    public ProductApiController(ProductService productService, ProductResponseCache responseCache) {
         this.productService = productService;
+        this.responseCache = responseCache;
     }
     
     /**
@@ -38,26 +43,27 @@ public class ProductApiController {
      * 교사 권한별 패드 종류 조회
      */
     @GetMapping("/pad-types")
-    public ResponseEntity<List<String>> getPadTypes() {
-        User currentTeacher = getCurrentTeacher();
+    public ResponseEntity<byte[]> getPadTypes(@CurrentTeacher User currentTeacher) {
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
         
-        List<String> padTypes = productService.getPadTypesByTeacher(currentTeacher);
-        return ResponseEntity.ok(padTypes);
+        ProductResponseCache.CachedResponse response = responseCache.get("pad-types",
+                ProductEntitlement.keyOf(currentTeacher), List.of(),
+                () -> productService.getPadTypesByTeacher(currentTeacher));
+        return toCachedResponse(response);
     }
     
     /**
      * 패드별 모델 목록 조회
      */
     @GetMapping("/models")
-    public ResponseEntity<List<Map<String, Object>>> getModels(
+    public ResponseEntity<byte[]> getModels(
+            @CurrentTeacher User currentTeacher,
             @RequestParam String grade,
             @RequestParam String managementType,
             @RequestParam String padType) {
         
-        User currentTeacher = getCurrentTeacher();
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
@@ -70,15 +76,20 @@ public class ProductApiController {
         }
         
         try {
-            // 조건에 맞는 모델 조회
-            List<Product> models = getModelsByConditions(currentTeacher, grade.trim(), managementType.trim(), padType.trim());
+            String trimmedGrade = grade.trim();
+            String trimmedManagementType = managementType.trim();
+            String trimmedPadType = padType.trim();
             
-            // 응답 데이터 변환
-            List<Map<String, Object>> modelData = models.stream()
-                    .map(this::convertToModelData)
-                    .collect(Collectors.toList());
+            // 권한 등급별로 캐시된 응답 조회 (캐시 미스 시에만 모델 조회 및 변환)
+            ProductResponseCache.CachedResponse response = responseCache.get("models",
+                    ProductEntitlement.keyOf(currentTeacher),
+                    List.of(trimmedGrade, trimmedManagementType, trimmedPadType),
+                    () -> getModelsByConditions(currentTeacher, trimmedGrade, trimmedManagementType, trimmedPadType)
+                            .stream()
+                            .map(this::convertToModelData)
+                            .collect(Collectors.toList()));
             
-            return ResponseEntity.ok(modelData);
+            return toCachedResponse(response);
             
         } catch (Exception e) {
             return ResponseEntity.status(500).build();
@@ -89,8 +100,7 @@ public class ProductApiController {
      * 모델 가격 조회
      */
     @GetMapping("/model-price")
-    public ResponseEntity<Map<String, Object>> getModelPrice(@RequestParam Long productId) {
-        User currentTeacher = getCurrentTeacher();
+    public ResponseEntity<Map<String, Object>> getModelPrice(@CurrentTeacher User currentTeacher, @RequestParam Long productId) {
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
@@ -130,10 +140,10 @@ public class ProductApiController {
      */
     @GetMapping("/calculate-total")
     public ResponseEntity<Map<String, Object>> calculateTotal(
+            @CurrentTeacher User currentTeacher,
             @RequestParam Long productId,
             @RequestParam Integer quantity) {
         
-        User currentTeacher = getCurrentTeacher();
         if (currentTeacher == null) {
             return ResponseEntity.status(401).build();
         }
@@ -174,14 +184,14 @@ public class ProductApiController {
     // === Private Helper Methods ===
     
     /**
-     * 현재 로그인한 교사 정보 가져오기
+     * 캐시된 JSON 응답 반환 (If-None-Match 일치 시 304 Not Modified)
      */
-    private User getCurrentTeacher() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            return (User) authentication.getPrincipal();
-        }
-        return null;
+    private ResponseEntity<byte[]> toCachedResponse(ProductResponseCache.CachedResponse response) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(response.getEtag())
+                .body(response.getBody());
     }
     
     /**
@@ -192,9 +202,9 @@ public class ProductApiController {
     }
     
     /**
-     * Product를 API 응답용 Map으로 변환
+     * Product를 API 응답용 Map으로 변환 (벤치마크에서 직접 호출하도록 package-private)
      */
-    private Map<String, Object> convertToModelData(Product product) {
+    Map<String, Object> convertToModelData(Product product) {
         Map<String, Object> modelData = new HashMap<>();
         modelData.put("id", product.getId());
         modelData.put("modelName", product.getModelName());
@@ -208,9 +218,9 @@ public class ProductApiController {
     }
     
     /**
-     * 가격 포맷팅 (원화 표시)
+     * 가격 포맷팅 (원화 표시, 벤치마크에서 직접 호출하도록 package-private)
      */
-    private String formatPrice(BigDecimal price) {
+    String formatPrice(BigDecimal price) {
         if (price == null) {
             return "0원";
         }
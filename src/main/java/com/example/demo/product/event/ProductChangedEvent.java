@@ -0,0 +1,17 @@
+package com.example.demo.product.event;
+
+/**
+ * 상품 데이터 변경 이벤트 (카탈로그 재적재 트리거)
+ */
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+    public ProductChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.product.event;
+
+import com.example.demo.product.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 변경 감지 리스너
+ * 저장/수정/삭제 시 ProductChangedEvent를 발행한다.
+ */
+@Component
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProductChanged(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+    }
+}
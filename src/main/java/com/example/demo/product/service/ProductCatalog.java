@@ -0,0 +1,261 @@
+package com.example.demo.product.service;
+
+import com.example.demo.product.Product;
+import com.example.demo.product.event.ProductChangedEvent;
+import com.example.demo.product.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 상품 카탈로그 메모리 인덱스
+ * 상품 테이블 전체를 한 번 읽어 불변 스냅샷으로 보관하고,
+ * 상품 변경 시 새 스냅샷을 만들어 통째로 교체한다.
+ */
+@Component
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+    /** 재적재 중 DB 조회를 하므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록) */
+    private final Lock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public ProductCatalog(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 조건별 활성 상품 조회 (학년, 관리유형, 패드종류)
+     */
+    public List<Product> getModels(String grade, String managementType, String padType) {
+        return snapshot().modelsByKey.getOrDefault(new ModelKey(grade, managementType, padType), List.of());
+    }
+
+    /**
+     * 패드 종류별 활성 상품 조회
+     */
+    public List<Product> getModelsByPadType(String padType) {
+        return snapshot().modelsByPadType.getOrDefault(padType, List.of());
+    }
+
+    /**
+     * 활성 상품 전체 조회
+     */
+    public List<Product> getActiveProducts() {
+        return snapshot().activeProducts;
+    }
+
+    /**
+     * 상품 ID로 활성 상품 조회
+     */
+    public Optional<Product> findActiveById(Long id) {
+        CatalogEntry entry = snapshot().entriesById.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.product);
+    }
+
+    /**
+     * 상품 접근 마스크 조회
+     * 카탈로그에 적재된 인스턴스면 컴파일된 마스크를 재사용하고, 그 외에는 즉시 컴파일
+     */
+    public long accessMaskOf(Product product) {
+        if (product == null) {
+            return 0L;
+        }
+        CatalogEntry entry = product.getId() == null ? null : snapshot().entriesById.get(product.getId());
+        if (entry != null && entry.product == product) {
+            return entry.accessMask;
+        }
+        return ProductEntitlement.compile(product);
+    }
+
+    /**
+     * 학년 목록 (정렬됨)
+     */
+    public List<String> getGrades() {
+        return snapshot().grades;
+    }
+
+    /**
+     * 관리 유형 목록
+     */
+    public List<String> getManagementTypes() {
+        return snapshot().managementTypes;
+    }
+
+    /**
+     * 패드 종류 목록
+     */
+    public List<String> getPadTypes() {
+        return snapshot().padTypes;
+    }
+
+    /**
+     * 교사 권한 키로 접근 가능한 패드 종류 목록
+     * 패드 종류별로 상품 마스크를 OR 해두었으므로 패드 종류 수만큼만 비교하고,
+     * 결과는 권한 키(권한 등급)별로 스냅샷 안에 캐시한다.
+     */
+    public List<String> getAccessiblePadTypes(long teacherKey) {
+        Snapshot current = snapshot();
+        return current.padTypesByKey.computeIfAbsent(teacherKey, current::computeAccessiblePadTypes);
+    }
+
+    /**
+     * 현재 스냅샷 버전 (재적재될 때마다 증가)
+     */
+    public long getVersion() {
+        return snapshot().version;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 시 카탈로그 선적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 상품 변경 트랜잭션 커밋 후 카탈로그 재적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * DB에서 활성 상품을 다시 읽어 스냅샷 교체
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long nextVersion = snapshot == null ? 1 : snapshot.version + 1;
+            snapshot = Snapshot.build(nextVersion, productRepository.findByActiveTrue());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private record ModelKey(String grade, String managementType, String padType) {
+    }
+
+    private static final class CatalogEntry {
+
+        private final Product product;
+        private final long accessMask;
+
+        private CatalogEntry(Product product) {
+            this.product = product;
+            this.accessMask = ProductEntitlement.compile(product);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long version;
+        private final List<Product> activeProducts;
+        private final Map<Long, CatalogEntry> entriesById;
+        private final Map<ModelKey, List<Product>> modelsByKey;
+        private final Map<String, List<Product>> modelsByPadType;
+        private final List<String> grades;
+        private final List<String> managementTypes;
+        private final List<String> padTypes;
+        private final long[] padTypeMasks;
+        private final Map<Long, List<String>> padTypesByKey = new ConcurrentHashMap<>();
+
+        private Snapshot(long version, List<Product> activeProducts, Map<Long, CatalogEntry> entriesById,
+                         Map<ModelKey, List<Product>> modelsByKey, Map<String, List<Product>> modelsByPadType,
+                         List<String> grades, List<String> managementTypes, List<String> padTypes,
+                         long[] padTypeMasks) {
+            this.version = version;
+            this.activeProducts = activeProducts;
+            this.entriesById = entriesById;
+            this.modelsByKey = modelsByKey;
+            this.modelsByPadType = modelsByPadType;
+            this.grades = grades;
+            this.managementTypes = managementTypes;
+            this.padTypes = padTypes;
+            this.padTypeMasks = padTypeMasks;
+        }
+
+        private List<String> computeAccessiblePadTypes(long teacherKey) {
+            List<String> accessible = new ArrayList<>();
+            for (int i = 0; i < padTypes.size(); i++) {
+                if (ProductEntitlement.isAccessible(padTypeMasks[i], teacherKey)) {
+                    accessible.add(padTypes.get(i));
+                }
+            }
+            return List.copyOf(accessible);
+        }
+
+        static Snapshot build(long version, List<Product> products) {
+            List<Product> sorted = new ArrayList<>(products);
+            sorted.sort(Comparator.comparing(Product::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+            Map<Long, CatalogEntry> byId = new HashMap<>();
+            Map<ModelKey, List<Product>> byKey = new HashMap<>();
+            Map<String, List<Product>> byPadType = new HashMap<>();
+            Set<String> grades = new TreeSet<>();
+            Set<String> managementTypes = new LinkedHashSet<>();
+            Set<String> padTypes = new LinkedHashSet<>();
+
+            for (Product product : sorted) {
+                byId.put(product.getId(), new CatalogEntry(product));
+                byKey.computeIfAbsent(new ModelKey(product.getGrade(), product.getManagementType(), product.getPadType()),
+                        key -> new ArrayList<>()).add(product);
+                byPadType.computeIfAbsent(product.getPadType(), key -> new ArrayList<>()).add(product);
+                grades.add(product.getGrade());
+                managementTypes.add(product.getManagementType());
+                padTypes.add(product.getPadType());
+            }
+
+            Map<ModelKey, List<Product>> frozenByKey = new HashMap<>();
+            byKey.forEach((key, list) -> frozenByKey.put(key, List.copyOf(list)));
+            Map<String, List<Product>> frozenByPadType = new HashMap<>();
+            byPadType.forEach((key, list) -> frozenByPadType.put(key, List.copyOf(list)));
+
+            // 패드 종류별 접근 마스크 (해당 패드 상품 마스크의 OR)
+            List<String> padTypeList = List.copyOf(padTypes);
+            long[] padTypeMasks = new long[padTypeList.size()];
+            for (int i = 0; i < padTypeList.size(); i++) {
+                for (Product product : byPadType.get(padTypeList.get(i))) {
+                    padTypeMasks[i] |= byId.get(product.getId()).accessMask;
+                }
+            }
+
+            return new Snapshot(version, List.copyOf(sorted), Map.copyOf(byId),
+                    Map.copyOf(frozenByKey), Map.copyOf(frozenByPadType),
+                    List.copyOf(grades), List.copyOf(managementTypes), padTypeList, padTypeMasks);
+        }
+    }
+}
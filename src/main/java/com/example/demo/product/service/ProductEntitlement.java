@@ -0,0 +1,95 @@
+package com.example.demo.product.service;
+
+import com.example.demo.product.Product;
+import com.example.demo.user.User;
+
+/**
+ * 상품 접근 권한 비트마스크
+ * 상품의 allowedTeacherTypes를 CntrTyCd/TeacType 비트로 한 번만 컴파일하고,
+ * 교사는 자신의 CntrTyCd/TeacType 비트로 된 권한 키를 가진다.
+ * 접근 가능 여부는 (상품 마스크 & 교사 키) != 0 으로 판단한다.
+ */
+public final class ProductEntitlement {
+
+    /** 모든 교사 키에 포함되는 공개 비트 (제한 없는 상품용) */
+    private static final long PUBLIC_BIT = 1L << 63;
+
+    private static final int TEAC_TYPE_OFFSET = User.CntrTyCd.values().length;
+
+    private ProductEntitlement() {
+    }
+
+    /**
+     * 상품 접근 마스크 컴파일
+     * 비활성 상품은 0, 제한 없는 상품은 공개 비트, 제한 상품은 허용 유형 비트
+     */
+    public static long compile(Product product) {
+        if (product == null || !product.isActive()) {
+            return 0L;
+        }
+        if (!product.isRestrictedAccess()) {
+            return PUBLIC_BIT;
+        }
+
+        String allowedTypes = product.getAllowedTeacherTypes();
+        if (allowedTypes == null || allowedTypes.isEmpty()) {
+            return 0L;
+        }
+
+        // 기존 규칙과 같이 쉼표로만 나누고 앞뒤 공백은 그대로 비교 ("CHRG, T"의 " T"는 T가 아니다)
+        long mask = 0L;
+        for (String token : allowedTypes.split(",")) {
+            mask |= bitOf(token);
+        }
+        return mask;
+    }
+
+    /**
+     * 교사 권한 키 계산
+     */
+    public static long keyOf(User teacher) {
+        if (teacher == null) {
+            return 0L;
+        }
+
+        long key = PUBLIC_BIT;
+        User.CntrTyCd cntrTyCd = teacher.getCntrTyCd();
+        if (cntrTyCd != null) {
+            key |= bitOf(cntrTyCd);
+        }
+        User.TeacType teacType = teacher.getTeacType();
+        if (teacType != null) {
+            key |= bitOf(teacType);
+        }
+        return key;
+    }
+
+    /**
+     * 상품 마스크와 교사 키로 접근 가능 여부 판단
+     */
+    public static boolean isAccessible(long productMask, long teacherKey) {
+        return (productMask & teacherKey) != 0L;
+    }
+
+    private static long bitOf(User.CntrTyCd cntrTyCd) {
+        return 1L << cntrTyCd.ordinal();
+    }
+
+    private static long bitOf(User.TeacType teacType) {
+        return 1L << (TEAC_TYPE_OFFSET + teacType.ordinal());
+    }
+
+    private static long bitOf(String typeName) {
+        for (User.CntrTyCd cntrTyCd : User.CntrTyCd.values()) {
+            if (cntrTyCd.name().equals(typeName)) {
+                return bitOf(cntrTyCd);
+            }
+        }
+        for (User.TeacType teacType : User.TeacType.values()) {
+            if (teacType.name().equals(typeName)) {
+                return bitOf(teacType);
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 상품 API 응답 캐시
+ * 응답은 카탈로그 버전과 교사 권한 키, 요청 파라미터에만 의존하므로
+ * 직렬화된 JSON 바이트와 ETag를 그 조합별로 보관한다.
+ * 카탈로그 버전이 바뀌면 캐시 전체를 비운다.
+ */
+@Component
+public class ProductResponseCache {
+
+    /** 임의 파라미터 조합으로 캐시가 무한히 커지지 않도록 하는 상한 */
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ProductCatalog productCatalog;
+    private final ObjectMapper objectMapper;
+
+    private final Map<ResponseKey, CachedResponse> responses = new ConcurrentHashMap<>();
+    private volatile long cachedVersion = -1;
+
+    // Caffeine 캐시와 같은 이름(cache.gets)으로 기록해 적중률을 함께 볼 수 있게 한다
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductResponseCache(ProductCatalog productCatalog, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.productCatalog = productCatalog;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("cache.gets").tag("cache", "productResponses").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", "productResponses").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", responses, Map::size).tag("cache", "productResponses").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 loader 결과를 직렬화하여 저장)
+     */
+    public CachedResponse get(String endpoint, long entitlementKey, List<String> params, Supplier<?> loader) {
+        long version = productCatalog.getVersion();
+        if (version != cachedVersion) {
+            responses.clear();
+            cachedVersion = version;
+        }
+        if (responses.size() >= MAX_ENTRIES) {
+            responses.clear();
+        }
+
+        ResponseKey key = new ResponseKey(version, entitlementKey, endpoint, List.copyOf(params));
+        CachedResponse cached = responses.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return responses.computeIfAbsent(key, k -> serialize(loader.get()));
+    }
+
+    private CachedResponse serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private record ResponseKey(long catalogVersion, long entitlementKey, String endpoint, List<String> params) {
+    }
+
+    /**
+     * 직렬화된 응답 본문과 강한 ETag
+     */
+    public static final class CachedResponse {
+
+        private final byte[] body;
+        private final String etag;
+
+        private CachedResponse(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
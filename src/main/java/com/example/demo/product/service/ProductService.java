@@ -3,31 +3,35 @@ package com.example.demo.product.service;
 import com.example.demo.product.Product;
 import com.example.demo.product.repository.ProductRepository;
 import com.example.demo.user.User;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @Transactional(readOnly = true)
 public class ProductService {
     
     private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
     
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ProductCatalog productCatalog) {
         this.productRepository = productRepository;
+        this.productCatalog = productCatalog;
     }
     
     /**
      * 학년 옵션 조회
      */
     public List<String> getGradeOptions() {
-        // 데이터베이스에서 실제 학년 목록을 조회하거나 기본값 반환
-        List<String> dbGrades = productRepository.findDistinctGrades();
+        // 카탈로그의 실제 학년 목록을 조회하거나 기본값 반환
+        List<String> dbGrades = productCatalog.getGrades();
         if (!dbGrades.isEmpty()) {
             return dbGrades;
         }
@@ -38,8 +42,8 @@ public class ProductService {
      * 관리 유형 옵션 조회
      */
     public List<String> getManagementTypes() {
-        // 데이터베이스에서 실제 관리 유형 목록을 조회하거나 기본값 반환
-        List<String> dbManagementTypes = productRepository.findDistinctManagementTypes();
+        // 카탈로그의 실제 관리 유형 목록을 조회하거나 기본값 반환
+        List<String> dbManagementTypes = productCatalog.getManagementTypes();
         if (!dbManagementTypes.isEmpty()) {
             return dbManagementTypes;
         }
@@ -54,13 +58,8 @@ public class ProductService {
             return List.of();
         }
         
-        // 모든 패드 종류 조회
-        List<String> allPadTypes = productRepository.findDistinctPadTypes();
-        
-        // 교사가 접근 가능한 패드 종류만 필터링
-        return allPadTypes.stream()
-                .filter(padType -> hasAccessToPadType(teacher, padType))
-                .collect(Collectors.toList());
+        // 패드 종류별 접근 마스크로 한 번에 필터링 (쿼리 없음)
+        return productCatalog.getAccessiblePadTypes(ProductEntitlement.keyOf(teacher));
     }
     
     /**
@@ -71,12 +70,10 @@ public class ProductService {
             return List.of();
         }
         
-        List<Product> allModels = productRepository.findByPadTypeAndActiveTrue(padType.trim());
+        List<Product> allModels = productCatalog.getModelsByPadType(padType.trim());
         
         // 교사가 접근 가능한 모델만 필터링
-        return allModels.stream()
-                .filter(product -> isProductAccessible(teacher, product))
-                .collect(Collectors.toList());
+        return filterAccessible(teacher, allModels);
     }
     
     /**
@@ -87,13 +84,10 @@ public class ProductService {
             return List.of();
         }
         
-        List<Product> allModels = productRepository.findByGradeAndManagementTypeAndPadTypeAndActiveTrue(
-                grade.trim(), managementType.trim(), padType.trim());
+        List<Product> allModels = productCatalog.getModels(grade.trim(), managementType.trim(), padType.trim());
         
         // 교사가 접근 가능한 모델만 필터링
-        return allModels.stream()
-                .filter(product -> isProductAccessible(teacher, product))
-                .collect(Collectors.toList());
+        return filterAccessible(teacher, allModels);
     }
     
     /**
@@ -107,9 +101,7 @@ public class ProductService {
         List<Product> allProducts = productRepository.findByGradeAndActiveTrue(grade.trim());
         
         // 교사가 접근 가능한 상품만 필터링
-        return allProducts.stream()
-                .filter(product -> isProductAccessible(teacher, product))
-                .collect(Collectors.toList());
+        return filterAccessible(teacher, allProducts);
     }
     
     /**
@@ -123,9 +115,7 @@ public class ProductService {
         List<Product> allProducts = productRepository.findByManagementTypeAndActiveTrue(managementType.trim());
         
         // 교사가 접근 가능한 상품만 필터링
-        return allProducts.stream()
-                .filter(product -> isProductAccessible(teacher, product))
-                .collect(Collectors.toList());
+        return filterAccessible(teacher, allProducts);
     }
     
     /**
@@ -135,6 +125,11 @@ public class ProductService {
         if (id == null) {
             return Optional.empty();
         }
+        // 활성 상품은 카탈로그에서, 비활성 상품은 DB에서 조회
+        Optional<Product> cached = productCatalog.findActiveById(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
         return productRepository.findById(id);
     }
     
@@ -146,7 +141,7 @@ public class ProductService {
             return BigDecimal.ZERO;
         }
         
-        Optional<Product> product = productRepository.findById(productId);
+        Optional<Product> product = findById(productId);
         return product.map(Product::getMonthlyFee).orElse(BigDecimal.ZERO);
     }
     
@@ -170,39 +165,22 @@ public class ProductService {
             return false;
         }
         
-        // 비활성화된 상품은 접근 불가
-        if (!product.isActive()) {
-            return false;
-        }
-        
-        // 제한이 없는 상품은 모든 교사가 접근 가능
-        if (!product.isRestrictedAccess()) {
-            return true;
-        }
-        
-        // 제한된 상품의 경우 allowedTeacherTypes 확인
-        String allowedTypes = product.getAllowedTeacherTypes();
-        if (allowedTypes == null || allowedTypes.isEmpty()) {
-            return false;
-        }
-        
-        // 교사의 CntrTyCd 또는 TeacType이 허용 목록에 있는지 확인
-        User.CntrTyCd cntrTyCd = teacher.getCntrTyCd();
-        User.TeacType teacType = teacher.getTeacType();
-        
-        List<String> allowedTypeList = Arrays.asList(allowedTypes.split(","));
-        
-        return (cntrTyCd != null && allowedTypeList.contains(cntrTyCd.name())) ||
-               (teacType != null && allowedTypeList.contains(teacType.name()));
+        // 컴파일된 상품 마스크와 교사 권한 키 비교
+        return ProductEntitlement.isAccessible(productCatalog.accessMaskOf(product), ProductEntitlement.keyOf(teacher));
     }
     
     /**
-     * 교사가 특정 패드 종류에 접근 가능한지 확인
+     * 교사가 접근 가능한 상품만 필터링 (교사 권한 키는 한 번만 계산)
      */
-    private boolean hasAccessToPadType(User teacher, String padType) {
-        // 해당 패드 종류의 상품 중 하나라도 접근 가능하면 true
-        List<Product> products = productRepository.findByPadTypeAndActiveTrue(padType);
-        return products.stream().anyMatch(product -> isProductAccessible(teacher, product));
+    private List<Product> filterAccessible(User teacher, List<Product> products) {
+        long teacherKey = ProductEntitlement.keyOf(teacher);
+        List<Product> accessible = new ArrayList<>(products.size());
+        for (Product product : products) {
+            if (ProductEntitlement.isAccessible(productCatalog.accessMaskOf(product), teacherKey)) {
+                accessible.add(product);
+            }
+        }
+        return accessible;
     }
     
     /**
@@ -213,11 +191,7 @@ public class ProductService {
             return List.of();
         }
         
-        List<Product> allProducts = productRepository.findByActiveTrue();
-        
-        return allProducts.stream()
-                .filter(product -> isProductAccessible(teacher, product))
-                .collect(Collectors.toList());
+        return filterAccessible(teacher, productCatalog.getActiveProducts());
     }
     
     /**
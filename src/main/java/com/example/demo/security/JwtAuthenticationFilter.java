@@ -8,6 +8,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.example.demo.login.JwtPrincipal;
 import com.example.demo.login.LoginUserAuthority;
 import com.example.demo.login.service.JwtProvider;
 
@@ -39,12 +40,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
         // JWT 토큰이 있으면 JWT 인증 시도
         if (token != null) {
             try {
-                String empNo = jwtProvider.getEmpNoFromToken(token);
-                LoginUserAuthority authority = jwtProvider.getAuthorityFromToken(token);
+                // 토큰은 한 번만 검증 (검증 결과는 JwtProvider에서 캐시)
+                JwtPrincipal principal = jwtProvider.verify(token);
+                LoginUserAuthority authority = principal.getAuthority();
                 
                 // empNo를 principal로, authority를 권한으로 설정
                 Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    empNo, null, List.of(() -> authority.getAuthority()));
+                    principal.getEmpNo(), null, List.of(() -> authority.getAuthority()));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception e) {
                 // 토큰이 유효하지 않으면 세션 인증 시도
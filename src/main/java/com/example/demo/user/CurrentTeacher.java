@@ -0,0 +1,17 @@
+package com.example.demo.user;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 교사(User)를 컨트롤러 파라미터로 주입
+ * 인증되지 않았거나 교사를 찾을 수 없으면 null이 주입된다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentTeacher {
+}
@@ -0,0 +1,71 @@
+package com.example.demo.user.service;
+
+import com.example.demo.user.User;
+import com.example.demo.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 교사 조회 서비스
+ * 사번별 User 스냅샷을 크기/TTL 제한 캐시에 보관하여 요청마다 DB를 조회하지 않는다.
+ * 애플리케이션에는 교사 정보를 수정하는 경로가 없어 무효화하지 않으므로, DB에서 직접 바꾼 deptCode/teacType 등은
+ * 캐시된 지 최대 teacher.cache.ttl(기본 5분)이 지나야 반영된다. 수정 기능을 추가하면 그 커밋 후에 캐시를 비워야 한다.
+ */
+@Service
+public class CurrentTeacherResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> teacherCache;
+
+    public CurrentTeacherResolver(UserRepository userRepository,
+                                  @Value("${teacher.cache.ttl:5m}") Duration ttl,
+                                  @Value("${teacher.cache.max-size:10000}") long maxSize,
+                                  MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.teacherCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, teacherCache, "teacher");
+    }
+
+    /**
+     * SecurityContext의 인증 정보로 현재 교사 조회
+     */
+    public User getCurrentTeacher() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof String) {
+            return resolve((String) authentication.getPrincipal()).orElse(null);
+        }
+        return null;
+    }
+
+    /**
+     * 사번으로 교사 조회 (캐시 우선)
+     */
+    public Optional<User> resolve(String empNo) {
+        if (empNo == null || empNo.isEmpty()) {
+            return Optional.empty();
+        }
+
+        User cached = teacherCache.getIfPresent(empNo);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 존재하지 않는 사번은 캐시하지 않음
+        Optional<User> user = userRepository.findById(empNo);
+        user.ifPresent(found -> teacherCache.put(empNo, found));
+        return user;
+    }
+}
@@ -0,0 +1,94 @@
+-- Initial schema (tables, sequences, keys) matching the JPA entities.
+-- Sequences step by 50 because entities allocate ids in pooled-lo blocks of 50.
+
+create sequence customer_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_stats_seq start with 1 increment by 50;
+create sequence product_seq start with 1 increment by 50;
+
+create table user_table (
+    emp_no varchar(255) not null,
+    emp_name varchar(255),
+    dept_code varchar(255),
+    birth_date varchar(255),
+    teac_type varchar(255) check (teac_type in ('T','M','C')),
+    sc_type varchar(255) check (sc_type in ('E','M')),
+    constraint pk_user_table primary key (emp_no)
+);
+
+create table product (
+    id bigint not null,
+    grade varchar(10) not null,
+    management_type varchar(20) not null,
+    pad_type varchar(50) not null,
+    model_name varchar(100) not null,
+    monthly_fee numeric(10,2) not null,
+    active boolean not null,
+    restricted_access boolean not null,
+    allowed_teacher_types varchar(500),
+    constraint pk_product primary key (id)
+);
+
+create table customer (
+    id bigint not null,
+    parent_name varchar(100) not null,
+    parent_phone varchar(20) not null,
+    parent_email varchar(100),
+    address varchar(200),
+    child_name varchar(100) not null,
+    child_grade varchar(10) not null,
+    school varchar(100),
+    dedup_key varchar(130) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    constraint pk_customer primary key (id)
+);
+
+create table orders (
+    id bigint not null,
+    order_number varchar(50) not null,
+    teacher_emp_no varchar(255) not null,
+    customer_id bigint not null,
+    product_id bigint not null,
+    quantity integer not null,
+    total_amount numeric(12,2) not null,
+    status varchar(255) not null check (status in ('PENDING','CONFIRMED','PROCESSING','COMPLETED','CANCELLED')),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    constraint pk_orders primary key (id),
+    constraint uk_orders_order_number unique (order_number),
+    constraint fk_orders_teacher foreign key (teacher_emp_no) references user_table (emp_no),
+    constraint fk_orders_customer foreign key (customer_id) references customer (id),
+    constraint fk_orders_product foreign key (product_id) references product (id)
+);
+
+create table order_session (
+    session_id varchar(100) not null,
+    teacher_emp_no varchar(20) not null,
+    parent_name varchar(100),
+    parent_phone varchar(20),
+    parent_email varchar(100),
+    address varchar(200),
+    child_name varchar(100),
+    child_grade varchar(10),
+    school varchar(100),
+    selected_grade varchar(10),
+    selected_management_type varchar(20),
+    selected_pad_type varchar(50),
+    selected_product_id bigint,
+    quantity integer,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    constraint pk_order_session primary key (session_id)
+);
+
+create table order_stats (
+    id bigint not null,
+    teacher_emp_no varchar(20) not null,
+    dimension varchar(10) not null check (dimension in ('TOTAL','STATUS','MONTH')),
+    bucket varchar(20) not null,
+    order_count bigint not null,
+    total_amount numeric(15,2) not null,
+    constraint pk_order_stats primary key (id),
+    constraint uk_order_stats_key unique (teacher_emp_no, dimension, bucket)
+);
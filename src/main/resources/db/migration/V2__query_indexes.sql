@@ -0,0 +1,11 @@
+-- Indexes for the hot lookups (names match the @Index/@UniqueConstraint names on the entities).
+
+-- Order list keyset paging and per-teacher stats reconcile: WHERE teacher_emp_no = ? ORDER BY created_at DESC, id DESC
+create index idx_orders_teacher_emp_no_created_at on orders (teacher_emp_no, created_at);
+
+-- Wizard session lookup by teacher and the expiry reaper
+create index idx_order_session_teacher_emp_no on order_session (teacher_emp_no);
+create index idx_order_session_expires_at on order_session (expires_at);
+
+-- Customer dedup on order creation and bulk import (phone digits + normalized parent name)
+alter table customer add constraint uk_customer_dedup_key unique (dedup_key);
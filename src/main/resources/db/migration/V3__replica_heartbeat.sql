@@ -0,0 +1,8 @@
+-- Replica lag heartbeat (ReplicaLagMonitor): one row (id = 1) rewritten on the primary every heartbeat-interval
+-- and read back on the replica; the age of the value seen there is the replica lag.
+
+create table replica_heartbeat (
+    id int not null,
+    beat_millis bigint not null,
+    constraint pk_replica_heartbeat primary key (id)
+);
@@ -0,0 +1,66 @@
+package com.example.demo.config;
+
+import com.example.demo.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 SQL 문 수 집계 (JPA와 JdbcTemplate 모두 JDBC 수준에서 센다)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlStatementCounterTest {
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        counter.stop();
+    }
+
+    @Test
+    void countsJpaAndJdbcTemplateStatements() {
+        counter.start();
+        userRepository.count();
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_table", Long.class);
+        jdbcTemplate.update("MERGE INTO user_table (emp_no, emp_name) KEY (emp_no) VALUES ('SC0001', '집계')");
+        jdbcTemplate.batchUpdate("UPDATE user_table SET emp_name = ? WHERE emp_no = ?",
+                List.of(new Object[]{"집계1", "SC0001"}, new Object[]{"집계2", "SC0001"}));
+
+        assertThat(counter.stop()).isEqualTo(4);
+    }
+
+    @Test
+    void statementsOutsideStartStopAreNotCounted() {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        counter.start();
+
+        assertThat(counter.stop()).isZero();
+    }
+
+    @Test
+    void poolIsStillReachableThroughTheWrapper() throws SQLException {
+        assertThat(dataSource.isWrapperFor(HikariDataSource.class)).isTrue();
+    }
+}
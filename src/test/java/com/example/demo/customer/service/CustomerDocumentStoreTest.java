@@ -0,0 +1,72 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.dto.CustomerSummary;
+import com.example.demo.customer.event.CustomerChangedEvent;
+import com.example.demo.customer.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고객 문서 저장소 하나로 검색 색인과 자동완성을 함께 적재/갱신
+ */
+class CustomerDocumentStoreTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerDocumentStore documentStore = new CustomerDocumentStore(customerRepository);
+    private final CustomerSearchIndex searchIndex = new CustomerSearchIndex(documentStore);
+    private final CustomerTypeahead typeahead = new CustomerTypeahead(documentStore);
+
+    @Test
+    void oneLoadBuildsBothIndexes() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "김민수", "김하늘", "010-1234-5678", "3"});
+        rows.add(new Object[]{2L, "이서연", null, "010-9999-0000", "5"});
+        when(customerRepository.findSearchFieldsAfter(anyLong(), any(Pageable.class))).thenReturn(rows);
+
+        assertThat(searchIndex.isReady()).isFalse();
+        assertThat(typeahead.isReady()).isFalse();
+        documentStore.rebuild();
+
+        verify(customerRepository, times(1)).findSearchFieldsAfter(anyLong(), any(Pageable.class));
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(typeahead.isReady()).isTrue();
+        assertThat(searchIndex.search("민수", 0, 10)).containsExactly(1L);
+        assertThat(searchIndex.search("1234", 0, 10)).containsExactly(1L);
+        assertThat(ids(typeahead.suggest("ㅇㅅ", 10))).containsExactly(2L);
+        assertThat(typeahead.suggest("0000", 10)).extracting(CustomerSummary::getChildGrade).containsExactly("5");
+    }
+
+    @Test
+    void oneChangeUpdatesBothIndexes() {
+        when(customerRepository.findSearchFieldsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        documentStore.rebuild();
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(7L, "박지훈", "박서준", "010-5555-7777", "2", false));
+        assertThat(searchIndex.search("지훈", 0, 10)).containsExactly(7L);
+        assertThat(ids(typeahead.suggest("박서", 10))).containsExactly(7L);
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(7L, "최지훈", null, "010-5555-7777", "2", false));
+        assertThat(searchIndex.search("박", 0, 10)).isEmpty();
+        assertThat(ids(typeahead.suggest("최", 10))).containsExactly(7L);
+        assertThat(typeahead.suggest("박", 10)).isEmpty();
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(7L, null, null, null, null, true));
+        assertThat(searchIndex.search("지훈", 0, 10)).isEmpty();
+        assertThat(typeahead.suggest("7777", 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<CustomerSummary> suggestions) {
+        return suggestions.stream().map(CustomerSummary::getId).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.Customer;
+import com.example.demo.customer.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중복 확인 키 기준 고객 등록 (호출한 트랜잭션 안에서 INSERT)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerServiceTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void sameParentReturnsExistingCustomer() {
+        Customer first = customerService.findOrCreateCustomer(customer("김민수", "010-1111-2222"));
+        // 공백, 하이픈 차이는 같은 고객
+        Customer second = customerService.findOrCreateCustomer(customer(" 김민수 ", "01011112222"));
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(customerRepository.findByDedupKey(Customer.dedupKeyOf("김민수", "010-1111-2222"))).isPresent();
+    }
+
+    @Test
+    void customerIsRolledBackWithCallerTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            customerService.findOrCreateCustomer(customer("이서연", "010-3333-4444"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(customerRepository.findByDedupKey(Customer.dedupKeyOf("이서연", "010-3333-4444"))).isEmpty();
+    }
+
+    @Test
+    void concurrentRegistrationsCreateOneCustomer() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> transactionTemplate.execute(status ->
+                        customerService.findOrCreateCustomer(customer("박지훈", "010-5555-6666")).getId()));
+            }
+            Set<Long> ids = new java.util.HashSet<>();
+            for (Future<Long> future : executor.invokeAll(tasks)) {
+                ids.add(future.get());
+            }
+
+            assertThat(ids).hasSize(1);
+            assertThat(customerRepository.findAll().stream()
+                    .filter(c -> c.getDedupKey().equals(Customer.dedupKeyOf("박지훈", "010-5555-6666")))
+                    .collect(Collectors.toList())).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Customer customer(String parentName, String parentPhone) {
+        Customer customer = new Customer();
+        customer.setParentName(parentName);
+        customer.setParentPhone(parentPhone);
+        customer.setChildName("김하늘");
+        customer.setChildGrade("3");
+        return customer;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.customer.service;
+
+import com.example.demo.customer.dto.CustomerSummary;
+import com.example.demo.customer.event.CustomerChangedEvent;
+import com.example.demo.customer.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고객 자동완성 (초성, 입력 중인 글자, 연락처 끝자리, 상위 목록 자르기)
+ */
+class CustomerTypeaheadTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final CustomerDocumentStore documentStore = new CustomerDocumentStore(customerRepository);
+    private final CustomerTypeahead typeahead = new CustomerTypeahead(documentStore);
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @Test
+    void notReadyBeforeRebuild() {
+        assertThat(typeahead.isReady()).isFalse();
+        assertThat(typeahead.suggest("김", 10)).isEmpty();
+    }
+
+    @Test
+    void choseongMatchesParentAndChildNames() {
+        customer(1, "김민수", "이하늘", "010-1111-0001");
+        customer(2, "고민석", "고지우", "010-1111-0002");
+        customer(3, "박서준", "김민지", "010-1111-0003");
+        rebuild();
+
+        // ㄱㅁ: 김민수(1), 고민석(2), 김민지(3의 자녀)
+        assertThat(ids(typeahead.suggest("ㄱㅁ", 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(typeahead.suggest("ㄱㅁㅅ", 10))).containsExactly(2L, 1L);
+        // 완성된 글자가 섞이면 그 글자는 그대로 비교
+        assertThat(ids(typeahead.suggest("김ㅁ", 10))).containsExactly(3L, 1L);
+        assertThat(ids(typeahead.suggest("고ㅈ", 10))).containsExactly(2L);
+        assertThat(typeahead.suggest("ㅎㅎ", 10)).isEmpty();
+    }
+
+    @Test
+    void openSyllableMatchesSyllablesWithFinalConsonant() {
+        customer(1, "기영희", null, "010-1111-0001");
+        customer(2, "김민수", null, "010-1111-0002");
+        customer(3, "깁스", null, "010-1111-0003");
+        customer(4, "고은비", null, "010-1111-0004");
+        customer(5, "길동", null, "010-1111-0005");
+        rebuild();
+
+        // 받침 없는 "기"를 입력 중이면 기, 김, 깁, 길 ... (기~깋)까지 후보
+        assertThat(ids(typeahead.suggest("기", 10))).containsExactly(5L, 3L, 2L, 1L);
+        // 받침이 있는 글자는 그 글자로만
+        assertThat(ids(typeahead.suggest("김", 10))).containsExactly(2L);
+        // 앞 글자가 완성된 뒤의 마지막 글자에도 적용 (김미 → 김민)
+        assertThat(ids(typeahead.suggest("김미", 10))).containsExactly(2L);
+        assertThat(typeahead.suggest("김무", 10)).isEmpty();
+    }
+
+    @Test
+    void phoneSuffixIsMatchedFromTheEnd() {
+        customer(1, "김민수", null, "010-1234-5678");
+        customer(2, "이서연", null, "010-9999-5678");
+        customer(3, "박지훈", null, "01077770078");
+        customer(4, "최유진", null, "010-5678-0000");
+        rebuild();
+
+        assertThat(ids(typeahead.suggest("5678", 10))).containsExactly(2L, 1L);
+        assertThat(ids(typeahead.suggest("78", 10))).containsExactly(3L, 2L, 1L);
+        // 4자리보다 길면 끝 4자리 후보를 전체 끝자리로 다시 확인
+        assertThat(ids(typeahead.suggest("45678", 10))).containsExactly(1L);
+        assertThat(ids(typeahead.suggest("1234-5678", 10))).containsExactly(1L);
+        assertThat(typeahead.suggest("0005678", 10)).isEmpty();
+    }
+
+    @Test
+    void resultsAreNewestFirstAndCappedAtMaxLimit() {
+        for (int id = 1; id <= 30; id++) {
+            customer(id, "김" + (char) ('가' + id), null, String.format("010-1111-%04d", id));
+        }
+        rebuild();
+
+        List<CustomerSummary> suggestions = typeahead.suggest("김", 100);
+        assertThat(suggestions).hasSize(CustomerTypeahead.MAX_LIMIT);
+        assertThat(ids(suggestions).get(0)).isEqualTo(30L);
+        assertThat(ids(suggestions).get(CustomerTypeahead.MAX_LIMIT - 1)).isEqualTo(11L);
+        assertThat(ids(typeahead.suggest("김", 3))).containsExactly(30L, 29L, 28L);
+        assertThat(typeahead.suggest("김", 0)).hasSize(1);
+    }
+
+    @Test
+    void mixedSearchScansAtMostScanLimitCandidates() {
+        // 끝 4자리가 같은 고객 5,100명 중 오래된 100명만 끝 5자리가 15678
+        for (int id = 1; id <= 5_100; id++) {
+            customer(id, "고객" + id, null, id <= 100 ? "010-1111-5678" : "010-2222-5678");
+        }
+        rebuild();
+
+        // 최근 등록 순으로 5,000명까지만 확인하므로 그보다 오래된 고객은 찾지 못한다
+        assertThat(typeahead.suggest("15678", 20)).isEmpty();
+        List<Long> recent = ids(typeahead.suggest("25678", 20));
+        assertThat(recent).hasSize(20);
+        assertThat(recent.get(0)).isEqualTo(5_100L);
+        assertThat(recent.get(19)).isEqualTo(5_081L);
+    }
+
+    @Test
+    void changesAfterRebuildAreApplied() {
+        customer(1, "김민수", null, "010-1234-5678");
+        rebuild();
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(2L, "김민지", null, "010-2222-5678", "3", false));
+        assertThat(ids(typeahead.suggest("김민", 10))).containsExactly(2L, 1L);
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(1L, "이민수", null, "010-1234-0000", "3", false));
+        assertThat(ids(typeahead.suggest("김민", 10))).containsExactly(2L);
+        assertThat(ids(typeahead.suggest("ㅇㅁ", 10))).containsExactly(1L);
+        assertThat(ids(typeahead.suggest("5678", 10))).containsExactly(2L);
+
+        documentStore.onCustomerChanged(new CustomerChangedEvent(2L, null, null, null, null, true));
+        assertThat(typeahead.suggest("김", 10)).isEmpty();
+        assertThat(typeahead.suggest("ㄱ", 10)).isEmpty();
+    }
+
+    private void customer(long id, String parentName, String childName, String parentPhone) {
+        rows.add(new Object[]{id, parentName, childName, parentPhone, "3"});
+    }
+
+    private void rebuild() {
+        when(customerRepository.findSearchFieldsAfter(anyLong(), any(Pageable.class))).thenReturn(rows);
+        documentStore.rebuild();
+        assertThat(typeahead.isReady()).isTrue();
+    }
+
+    private static List<Long> ids(List<CustomerSummary> suggestions) {
+        return suggestions.stream().map(CustomerSummary::getId).toList();
+    }
+}
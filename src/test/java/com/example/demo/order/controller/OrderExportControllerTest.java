@@ -0,0 +1,100 @@
+package com.example.demo.order.controller;
+
+import com.example.demo.order.service.OrderExportFormat;
+import com.example.demo.order.service.OrderExportService;
+import com.example.demo.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 동시 내보내기 제한 (허용 수를 넘으면 기다리지 않고 429)
+ */
+class OrderExportControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Test
+    void exportOverLimitIsRejectedUntilRunningExportFinishes() throws Exception {
+        OrderExportService service = mock(OrderExportService.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 0L;
+        }).when(service).export(anyString(), any(), any(), any(OrderExportFormat.class), any(OutputStream.class));
+
+        OrderExportController controller = new OrderExportController(service, 1);
+        User teacher = teacher();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MockHttpServletResponse first = new MockHttpServletResponse();
+            Future<?> running = executor.submit(() -> {
+                controller.exportOrders(teacher, FROM, TO, "csv", false, first);
+                return null;
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            controller.exportOrders(teacher, FROM, TO, "csv", false, rejected);
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+            assertThat(first.getStatus()).isEqualTo(200);
+
+            // 끝난 내보내기의 자리는 반환된다
+            MockHttpServletResponse next = new MockHttpServletResponse();
+            controller.exportOrders(teacher, FROM, TO, "csv", false, next);
+            assertThat(next.getStatus()).isEqualTo(200);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void permitIsReleasedWhenExportFails() throws Exception {
+        OrderExportService service = mock(OrderExportService.class);
+        doThrow(new IOException("client aborted")).doReturn(0L)
+                .when(service).export(anyString(), any(), any(), any(OrderExportFormat.class), any(OutputStream.class));
+
+        OrderExportController controller = new OrderExportController(service, 1);
+        try {
+            controller.exportOrders(teacher(), FROM, TO, "csv", false, new MockHttpServletResponse());
+        } catch (IOException expected) {
+            // 다운로드 중 연결이 끊긴 경우
+        }
+
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        controller.exportOrders(teacher(), FROM, TO, "csv", false, next);
+        assertThat(next.getStatus()).isEqualTo(200);
+    }
+
+    private static User teacher() {
+        User teacher = new User();
+        ReflectionTestUtils.setField(teacher, "empNo", "T000001");
+        return teacher;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV/TSV 행 읽기 (따옴표, 줄바꿈, BOM, 줄 번호)
+ */
+class DelimitedRowReaderTest {
+
+    @Test
+    void splitsOnDelimiter() throws IOException {
+        assertThat(readAll("a,b,c\n", ',')).containsExactly(List.of("a", "b", "c"));
+        assertThat(readAll("a\tb,c\t\n", '\t')).containsExactly(List.of("a", "b,c", ""));
+    }
+
+    @Test
+    void quotedFieldKeepsDelimiter() throws IOException {
+        assertThat(readAll("\"서울시, 강남구\",홍길동\n", ','))
+                .containsExactly(List.of("서울시, 강남구", "홍길동"));
+    }
+
+    @Test
+    void quotedFieldKeepsNewlines() throws IOException {
+        assertThat(readAll("\"1층\n2층\",b\r\nc,d\n", ','))
+                .containsExactly(List.of("1층\n2층", "b"), List.of("c", "d"));
+    }
+
+    @Test
+    void doubledQuoteIsOneQuote() throws IOException {
+        assertThat(readAll("\"그는 \"\"안녕\"\"이라 했다\",\"\"\n", ','))
+                .containsExactly(List.of("그는 \"안녕\"이라 했다", ""));
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("5\"패드,b\n", ',')).containsExactly(List.of("5\"패드", "b"));
+    }
+
+    @Test
+    void crlfAndBareCrEndRows() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\re,f", ','))
+                .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+    }
+
+    @Test
+    void leadingBomIsDropped() throws IOException {
+        assertThat(readAll("\uFEFFparentName,childName\n김,이\n", ','))
+                .containsExactly(List.of("parentName", "childName"), List.of("김", "이"));
+    }
+
+    @Test
+    void bomAfterFirstCharacterIsKept() throws IOException {
+        assertThat(readAll("a\uFEFF\n", ',')).containsExactly(List.of("a\uFEFF"));
+    }
+
+    @Test
+    void emptyInputHasNoRows() throws IOException {
+        assertThat(readAll("", ',')).isEmpty();
+        assertThat(readAll("\uFEFF", ',')).isEmpty();
+    }
+
+    @Test
+    void blankLineIsOneEmptyField() throws IOException {
+        assertThat(readAll("a\n\nb\n", ',')).containsExactly(List.of("a"), List.of(""), List.of("b"));
+    }
+
+    @Test
+    void lineNumberIsWhereRowStarts() throws IOException {
+        DelimitedRowReader reader = new DelimitedRowReader(
+                new StringReader("h1,h2\r\n\"여러\r\n줄\r\n주소\",x\r\n\nlast,y"), ',');
+
+        reader.next();
+        assertThat(reader.getLineNumber()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("여러\r\n줄\r\n주소", "x");
+        assertThat(reader.getLineNumber()).isEqualTo(2);
+        reader.next();
+        assertThat(reader.getLineNumber()).isEqualTo(5);
+        assertThat(reader.next()).containsExactly("last", "y");
+        assertThat(reader.getLineNumber()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void unclosedQuoteReportsStartLine() throws IOException {
+        DelimitedRowReader reader = new DelimitedRowReader(new StringReader("a,b\n\"열린 따옴표\n,c\n"), ',');
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("2행:");
+    }
+
+    private static List<List<String>> readAll(String content, char delimiter) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader(content), delimiter)) {
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                rows.add(fields);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.dto.OrderImportResult;
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.product.service.ProductCatalog;
+import com.example.demo.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 일괄 등록의 청크 저장과 실패 시 한 행씩 재시도
+ */
+class OrderImportServiceTest {
+
+    private static final String HEADER = "parentName,parentPhone,childName,childGrade,grade,managementType,padType,productId,quantity\n";
+
+    private final OrderImportWriter writer = mock(OrderImportWriter.class);
+    private final List<List<Integer>> writes = new ArrayList<>();
+    private final OrderImportService service = new OrderImportService(catalog(), writer, 3);
+
+    @Test
+    void validRowsAreWrittenInChunks() throws IOException {
+        recordWrites(List.of());
+
+        OrderImportResult result = importCsv(rows(7));
+
+        assertThat(writes).containsExactly(List.of(2, 3, 4), List.of(5, 6, 7), List.of(8));
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getImportedRows()).isEqualTo(7);
+        assertThat(result.getFailedRows()).isZero();
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRow() throws IOException {
+        // 4행은 중복 키 충돌, 6행은 그 밖의 오류: 그 행이 든 청크 저장이 실패하고, 재시도에서도 그 행만 실패
+        recordWrites(List.of(4, 6));
+
+        OrderImportResult result = importCsv(rows(7));
+
+        assertThat(writes).containsExactly(
+                List.of(2, 3, 4), List.of(2), List.of(3), List.of(4),
+                List.of(5, 6, 7), List.of(5), List.of(6), List.of(7),
+                List.of(8));
+        assertThat(result.getImportedRows()).isEqualTo(5);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(OrderImportResult.RowError::getLine).containsExactly(4, 6);
+        assertThat(result.getErrors()).extracting(OrderImportResult.RowError::getMessage).containsExactly(
+                "저장 중 데이터 충돌이 발생했습니다.", "저장에 실패했습니다: 6행 저장 실패");
+    }
+
+    @Test
+    void invalidRowsAreReportedWithoutWriting() throws IOException {
+        recordWrites(List.of());
+
+        OrderImportResult result = importCsv(HEADER
+                + "김민수,010-1111-0001,김하늘,3,초1,관리,기본패드,1,1\n"
+                + "김민수,010-1111-0002,김하늘,3,초1,관리,기본패드,999,1\n"
+                + "김민수,010-1111-0003,김하늘,3,초1,관리,기본패드,1,영\n");
+
+        assertThat(writes).containsExactly(List.of(2));
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(OrderImportResult.RowError::getLine).containsExactly(3, 4);
+    }
+
+    /**
+     * 저장된 행 번호를 기록하고, failingLines가 든 저장은 실패시킨다 (4행은 중복 키, 나머지는 일반 오류)
+     */
+    private void recordWrites(List<Integer> failingLines) {
+        doAnswer(invocation -> {
+            List<OrderImportWriter.Row> rows = invocation.getArgument(0);
+            List<Integer> lines = rows.stream().map(OrderImportWriter.Row::line).toList();
+            writes.add(lines);
+            for (Integer line : lines) {
+                if (failingLines.contains(line)) {
+                    throw line == 4
+                            ? new DataIntegrityViolationException("uk_customer_dedup_key")
+                            : new IllegalStateException(line + "행 저장 실패");
+                }
+            }
+            return null;
+        }).when(writer).write(anyList(), any(User.class));
+    }
+
+    private OrderImportResult importCsv(String csv) throws IOException {
+        User teacher = new User();
+        ReflectionTestUtils.setField(teacher, "empNo", "T000001");
+        return service.importOrders(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ',', teacher);
+    }
+
+    private static String rows(int count) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < count; i++) {
+            csv.append("학부모").append(i).append(",010-1111-").append(String.format("%04d", i))
+                    .append(",학생").append(i).append(",3,초1,관리,기본패드,1,1\n");
+        }
+        return csv.toString();
+    }
+
+    private static ProductCatalog catalog() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setGrade("초1");
+        product.setManagementType("관리");
+        product.setPadType("기본패드");
+        product.setModelName("기본 모델");
+        product.setMonthlyFee(BigDecimal.valueOf(30_000));
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findByActiveTrue()).thenReturn(List.of(product));
+        return new ProductCatalog(repository);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo.order.service;
+
+import com.example.demo.config.RecentWriteTracker;
+import com.example.demo.customer.repository.CustomerRepository;
+import com.example.demo.order.OrderSession;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.product.Product;
+import com.example.demo.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 청크 저장 후 read-your-writes 기록 (커밋된 뒤에만 주 DB 읽기로 전환)
+ */
+class OrderImportWriterTest {
+
+    private final RecentWriteTracker recentWriteTracker = new RecentWriteTracker(true, Duration.ofSeconds(5), 100);
+    private final OrderImportWriter writer = new OrderImportWriter(mock(OrderRepository.class),
+            mock(CustomerRepository.class), new OrderNumberGenerator(0), mock(OrderStatsService.class),
+            recentWriteTracker);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void teacherIsMarkedAfterChunkCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.write(List.of(row(2), row(3)), teacher("T000001"));
+        assertThat(recentWriteTracker.isRecentWriter("T000001")).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(recentWriteTracker.isRecentWriter("T000001")).isTrue();
+    }
+
+    @Test
+    void rolledBackChunkDoesNotMarkTeacher() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.write(List.of(row(2)), teacher("T000002"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(
+                s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(recentWriteTracker.isRecentWriter("T000002")).isFalse();
+    }
+
+    private static OrderImportWriter.Row row(int line) {
+        OrderSession.CustomerInfo info = new OrderSession.CustomerInfo();
+        info.setParentName("김민수" + line);
+        info.setParentPhone("010-1111-000" + line);
+        info.setChildName("김하늘");
+        info.setChildGrade("3");
+        Product product = new Product();
+        product.setMonthlyFee(new BigDecimal("50000"));
+        return new OrderImportWriter.Row(line, info, product, 1);
+    }
+
+    private static User teacher(String empNo) {
+        User teacher = new User();
+        ReflectionTestUtils.setField(teacher, "empNo", empNo);
+        return teacher;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문번호 형식 (KST 고정 시각 + 노드 ID + 순번)
+ */
+class OrderNumberGeneratorTest {
+
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Test
+    void timestampIsKoreanTimeRegardlessOfServerZone() {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        try {
+            String before = LocalDateTime.now(ZoneOffset.ofHours(9)).format(SECOND_FORMAT);
+            String number = new OrderNumberGenerator(7).next();
+            String after = LocalDateTime.now(ZoneOffset.ofHours(9)).format(SECOND_FORMAT);
+
+            assertThat(number).hasSize(24).startsWith("ORD");
+            assertThat(number.substring(3, 17)).isBetween(before, after);
+            assertThat(number.substring(17, 19)).isEqualTo("07");
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void numbersAreUniqueAndIncreasing() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+        Set<String> numbers = new HashSet<>();
+        String previous = "";
+        for (int i = 0; i < 200_000; i++) {
+            String number = generator.next();
+            assertThat(number).isGreaterThan(previous);
+            numbers.add(number);
+            previous = number;
+        }
+        assertThat(numbers).hasSize(200_000);
+    }
+
+    @Test
+    void restartInSameSecondContinuesAfterLastIssuedNumber() {
+        OrderNumberGenerator before = new OrderNumberGenerator(0);
+        String last = null;
+        for (int i = 0; i < 5; i++) {
+            last = before.next();
+        }
+
+        OrderNumberGenerator restarted = new OrderNumberGenerator(0);
+        restarted.advancePast(last);
+
+        assertThat(restarted.next()).isGreaterThan(last);
+    }
+
+    @Test
+    void restartAfterBurstDoesNotReuseBorrowedSeconds() {
+        // 한 초 순번(100,000개)을 넘겨 미래의 초를 미리 쓴 상태에서 재시작
+        OrderNumberGenerator before = new OrderNumberGenerator(0);
+        Set<String> issued = new HashSet<>();
+        String last = null;
+        for (int i = 0; i < 250_000; i++) {
+            last = before.next();
+            issued.add(last);
+        }
+        String nowSecond = LocalDateTime.now(ZoneOffset.ofHours(9)).format(SECOND_FORMAT);
+        assertThat(last.substring(3, 17)).isGreaterThan(nowSecond);
+
+        OrderNumberGenerator restarted = new OrderNumberGenerator(0);
+        restarted.advancePast(last);
+        String previous = last;
+        for (int i = 0; i < 1_000; i++) {
+            String number = restarted.next();
+            assertThat(number).isGreaterThan(previous).isNotIn(issued);
+            previous = number;
+        }
+    }
+
+    @Test
+    void advancePastIgnoresOtherFormatsAndNeverMovesBack() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+        generator.advancePast(null);
+        generator.advancePast("SYN000000000123");
+        generator.advancePast("ORDnot-a-timestamp");
+        String first = generator.next();
+
+        // 이미 지난 번호로는 되돌아가지 않는다
+        generator.advancePast("ORD20200101000000000001");
+        assertThat(generator.next()).isGreaterThan(first);
+
+        // 이전 형식(ORD + 시각 + 임의 3자리)도 시각 기준으로 앞당긴다
+        generator.advancePast("ORD20991231235959123");
+        assertThat(generator.next()).startsWith("ORD21000101000000");
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderNumberGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
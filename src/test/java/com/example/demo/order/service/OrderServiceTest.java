@@ -0,0 +1,115 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.Order;
+import com.example.demo.order.OrderSession;
+import com.example.demo.order.repository.OrderRepository;
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.user.User;
+import com.example.demo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 생성과 주문 세션 삭제 (세션은 주문이 커밋된 뒤에만 삭제)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User teacher;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        teacher = new User();
+        ReflectionTestUtils.setField(teacher, "empNo", "OS0001");
+        ReflectionTestUtils.setField(teacher, "empName", "교사OS0001");
+        ReflectionTestUtils.setField(teacher, "deptCode", "1501");
+        ReflectionTestUtils.setField(teacher, "teacType", User.TeacType.M);
+        teacher = userRepository.save(teacher);
+
+        Product model = new Product();
+        model.setGrade("초1");
+        model.setManagementType("관리");
+        model.setPadType("기본패드");
+        model.setModelName("세션 테스트 모델");
+        model.setMonthlyFee(BigDecimal.valueOf(30_000));
+        product = productRepository.save(model);
+    }
+
+    @Test
+    void sessionIsDeletedWhenOrderCommits() {
+        String sessionId = completeSession("010-7000-0001");
+
+        Order order = orderService.createOrder(sessionId, teacher.getEmpNo(), teacher);
+
+        assertThat(orderRepository.findById(order.getId())).isPresent();
+        assertThat(orderService.getOrderSession(sessionId, teacher.getEmpNo())).isEmpty();
+    }
+
+    @Test
+    void sessionSurvivesCommitFailure() {
+        String sessionId = completeSession("010-7000-0002");
+        long ordersBefore = orderRepository.count();
+
+        // 주문 INSERT는 커밋 시점에 flush되므로, 같은 주문번호 행을 먼저 넣어 두면 커밋에서 유일 키 위반이 난다
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderService.createOrder(sessionId, teacher.getEmpNo(), teacher);
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("INSERT INTO orders (id, order_number, teacher_emp_no, customer_id, product_id, "
+                            + "quantity, total_amount, status, created_at, updated_at) "
+                            + "VALUES (NEXT VALUE FOR orders_seq, ?, ?, ?, ?, 1, 30000, 'PENDING', ?, ?)",
+                    order.getOrderNumber(), teacher.getEmpNo(), order.getCustomer().getId(), product.getId(), now, now);
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore);
+        // 롤백된 주문의 세션은 그대로 남아 같은 입력으로 다시 확정할 수 있다
+        OrderSession session = orderService.getOrderSession(sessionId, teacher.getEmpNo()).orElseThrow();
+        assertThat(session.getSelectedProductId()).isEqualTo(product.getId());
+
+        Order retried = orderService.createOrder(sessionId, teacher.getEmpNo(), teacher);
+        assertThat(orderRepository.findById(retried.getId())).isPresent();
+        assertThat(orderService.getOrderSession(sessionId, teacher.getEmpNo())).isEmpty();
+    }
+
+    private String completeSession(String parentPhone) {
+        String sessionId = orderService.startOrderSession(teacher.getEmpNo());
+        orderService.saveCustomerInfo(sessionId, teacher.getEmpNo(), new OrderSession.CustomerInfo(
+                "김민수", parentPhone, null, null, "김하늘", "초1", null));
+        orderService.saveModelSelection(sessionId, teacher.getEmpNo(),
+                product.getGrade(), product.getManagementType(), product.getPadType(), product.getId(), 1);
+        return sessionId;
+    }
+}
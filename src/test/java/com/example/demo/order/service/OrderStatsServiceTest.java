@@ -0,0 +1,92 @@
+package com.example.demo.order.service;
+
+import com.example.demo.order.Order;
+import com.example.demo.order.dto.OrderStatsSummary;
+import com.example.demo.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 집계 증감 (집계 행이 없으면 같은 트랜잭션에서 MERGE로 생성)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderStatsServiceTest {
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 교사 4명 x 월 2개의 새 집계 행에 주문 400건을 16개 스레드에서 각자 트랜잭션으로 동시에 반영
+     */
+    @Test
+    void concurrentOrdersOnNewBucketsAreAllCounted() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                Order order = order("C00000" + (i % 4), (i / 4) % 2 == 0 ? LocalDateTime.of(2026, 1, 15, 10, 0)
+                        : LocalDateTime.of(2026, 2, 15, 10, 0), new BigDecimal("1000"));
+                tasks.add(() -> {
+                    transactionTemplate.executeWithoutResult(status -> orderStatsService.recordCreated(order));
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int teacher = 0; teacher < 4; teacher++) {
+            OrderStatsSummary stats = orderStatsService.getStats("C00000" + teacher);
+            assertThat(stats.getOrderCount()).isEqualTo(100);
+            assertThat(stats.getTotalAmount()).isEqualByComparingTo("100000");
+            assertThat(stats.getCountByStatus().get(Order.OrderStatus.PENDING)).isEqualTo(100);
+            assertThat(stats.getMonthly()).extracting(OrderStatsSummary.MonthlyStats::getOrderCount)
+                    .containsExactly(50L, 50L);
+        }
+    }
+
+    @Test
+    void newBucketsAreRolledBackWithOrderTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderStatsService.recordCreated(order("R000001", LocalDateTime.of(2026, 3, 1, 9, 0), new BigDecimal("500")));
+            status.setRollbackOnly();
+        });
+
+        OrderStatsSummary stats = orderStatsService.getStats("R000001");
+        assertThat(stats.getOrderCount()).isZero();
+        assertThat(stats.getMonthly()).isEmpty();
+    }
+
+    private static Order order(String teacherEmpNo, LocalDateTime createdAt, BigDecimal amount) {
+        User teacher = new User();
+        ReflectionTestUtils.setField(teacher, "empNo", teacherEmpNo);
+        Order order = new Order();
+        order.setTeacher(teacher);
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setTotalAmount(amount);
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+}
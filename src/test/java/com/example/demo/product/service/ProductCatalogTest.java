@@ -0,0 +1,70 @@
+package com.example.demo.product.service;
+
+import com.example.demo.product.Product;
+import com.example.demo.product.repository.ProductRepository;
+import com.example.demo.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 교사 권한 키별 접근 가능한 패드 종류
+ */
+class ProductCatalogTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCatalog catalog = new ProductCatalog(productRepository);
+
+    @Test
+    void padTypeIsAccessibleWhenAnyOfItsProductsIs() {
+        when(productRepository.findByActiveTrue()).thenReturn(List.of(
+                product(1L, "기본패드", false, null),
+                product(2L, "프리미엄패드", true, "CHRG"),
+                product(3L, "프리미엄패드", true, "M"),
+                product(4L, "관리자패드", true, "M"),
+                product(5L, "빈패드", true, "")));
+
+        assertThat(padTypes(teacher("1501", User.TeacType.T))).containsExactly("기본패드", "프리미엄패드");
+        assertThat(padTypes(teacher(null, User.TeacType.M))).containsExactly("기본패드", "프리미엄패드", "관리자패드");
+        assertThat(padTypes(teacher("1602", User.TeacType.T))).containsExactly("기본패드");
+        assertThat(padTypes(null)).isEmpty();
+        // 목록 순서는 상품 ID 순으로 처음 나온 패드 종류 순
+        assertThat(catalog.getPadTypes()).containsExactly("기본패드", "프리미엄패드", "관리자패드", "빈패드");
+    }
+
+    @Test
+    void resultFollowsRefreshedProducts() {
+        when(productRepository.findByActiveTrue()).thenReturn(List.of(product(1L, "프리미엄패드", true, "CHRG")));
+        User chrg = teacher("1501", User.TeacType.T);
+        assertThat(padTypes(chrg)).containsExactly("프리미엄패드");
+
+        when(productRepository.findByActiveTrue()).thenReturn(List.of(product(1L, "프리미엄패드", true, "PRLSN")));
+        catalog.refresh();
+
+        assertThat(padTypes(chrg)).isEmpty();
+    }
+
+    private List<String> padTypes(User teacher) {
+        return catalog.getAccessiblePadTypes(ProductEntitlement.keyOf(teacher));
+    }
+
+    private static Product product(Long id, String padType, boolean restricted, String allowedTeacherTypes) {
+        Product product = ProductEntitlementTest.product(true, restricted, allowedTeacherTypes);
+        product.setId(id);
+        product.setGrade("초1");
+        product.setManagementType("관리");
+        product.setPadType(padType);
+        product.setModelName("모델" + id);
+        product.setMonthlyFee(BigDecimal.valueOf(30_000));
+        return product;
+    }
+
+    private static User teacher(String deptCode, User.TeacType teacType) {
+        return ProductEntitlementTest.teacher(deptCode, teacType);
+    }
+}
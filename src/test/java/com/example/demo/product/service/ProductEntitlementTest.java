@@ -0,0 +1,79 @@
+package com.example.demo.product.service;
+
+import com.example.demo.product.Product;
+import com.example.demo.user.User;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * 상품 접근 권한 (비트마스크 판단이 기존 allowedTeacherTypes 목록 비교와 같은 결과인지)
+ */
+class ProductEntitlementTest {
+
+    // 교사: 담당(1501) 교사 T, 부서 없는 관리자 M, 센터장 C(UNTY), 파견(1602) 교사 T, 유형 없는 교사
+    private static final User CHRG_T = teacher("1501", User.TeacType.T);
+    private static final User M_ONLY = teacher(null, User.TeacType.M);
+    private static final User UNTY_C = teacher(null, User.TeacType.C);
+    private static final User PRLSN_T = teacher("1602", User.TeacType.T);
+    private static final User NO_TYPE = teacher(null, null);
+
+    static Stream<Arguments> cases() {
+        return Stream.of(
+                // 비활성 상품은 누구도 접근 불가
+                arguments("비활성", product(false, false, null), CHRG_T, false),
+                arguments("비활성 제한", product(false, true, "CHRG"), CHRG_T, false),
+                // 제한 없는 상품은 유형과 관계없이 접근 가능 (교사가 없으면 불가)
+                arguments("제한 없음", product(true, false, null), CHRG_T, true),
+                arguments("제한 없음", product(true, false, null), NO_TYPE, true),
+                arguments("제한 없음", product(true, false, null), null, false),
+                // 허용 목록이 비었거나 없는 제한 상품은 누구도 접근 불가
+                arguments("제한 목록 없음", product(true, true, null), CHRG_T, false),
+                arguments("제한 목록 빈 값", product(true, true, ""), UNTY_C, false),
+                // CntrTyCd만 지정
+                arguments("CHRG", product(true, true, "CHRG"), CHRG_T, true),
+                arguments("CHRG", product(true, true, "CHRG"), PRLSN_T, false),
+                arguments("CHRG", product(true, true, "CHRG"), M_ONLY, false),
+                arguments("UNTY", product(true, true, "UNTY"), UNTY_C, true),
+                arguments("CHRG,PRLSN", product(true, true, "CHRG,PRLSN"), PRLSN_T, true),
+                // TeacType만 지정
+                arguments("M", product(true, true, "M"), M_ONLY, true),
+                arguments("M", product(true, true, "M"), CHRG_T, false),
+                arguments("T,M", product(true, true, "T,M"), PRLSN_T, true),
+                arguments("T,M", product(true, true, "T,M"), NO_TYPE, false),
+                // 제한 상품에 교사가 없으면 불가
+                arguments("CHRG", product(true, true, "CHRG"), null, false),
+                // 토큰은 공백을 다듬지 않고 그대로 비교
+                arguments("CHRG, T", product(true, true, "CHRG, T"), PRLSN_T, false),
+                arguments("CHRG, T", product(true, true, "CHRG, T"), CHRG_T, true),
+                arguments("소문자", product(true, true, "chrg"), CHRG_T, false));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("cases")
+    void accessMatchesAllowedTeacherTypes(String description, Product product, User teacher, boolean accessible) {
+        assertThat(ProductEntitlement.isAccessible(ProductEntitlement.compile(product), ProductEntitlement.keyOf(teacher)))
+                .isEqualTo(accessible);
+    }
+
+    static Product product(boolean active, boolean restricted, String allowedTeacherTypes) {
+        Product product = new Product();
+        product.setActive(active);
+        product.setRestrictedAccess(restricted);
+        product.setAllowedTeacherTypes(allowedTeacherTypes);
+        return product;
+    }
+
+    static User teacher(String deptCode, User.TeacType teacType) {
+        User teacher = new User();
+        ReflectionTestUtils.setField(teacher, "deptCode", deptCode);
+        ReflectionTestUtils.setField(teacher, "teacType", teacType);
+        return teacher;
+    }
+}